@@ -0,0 +1,82 @@
+package com.example.systemparam.bench;
+
+import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.ParamDefinition;
+import com.example.systemparam.service.SystemParams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application start-up: registering every param with {@code ensureParam}
+ * one at a time versus one {@code ensureParams} batch, on an empty store
+ * and on one that already holds every param (the usual restart).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BootstrapBenchmark {
+
+    @Param({"100", "1000"})
+    public int paramCount;
+
+    private List<ParamDefinition> definitions;
+    private InMemoryParamRepository populated;
+
+    @Setup
+    public void setUp() {
+        definitions = new ArrayList<>(paramCount);
+        for (int i = 0; i < paramCount; i++) {
+            definitions.add(new ParamDefinition(
+                    "app.param." + i, String.valueOf(i), "param " + i, ParamDataType.NUMBER, "TAG" + (i % 10), i));
+        }
+        populated = new InMemoryParamRepository();
+        new SystemParams(populated).ensureParams(definitions);
+    }
+
+    @Benchmark
+    public SystemParams ensureParamLoopEmpty() {
+        return ensureEach(new SystemParams(new InMemoryParamRepository()));
+    }
+
+    @Benchmark
+    public SystemParams ensureParamsBatchEmpty() {
+        SystemParams sp = new SystemParams(new InMemoryParamRepository());
+        sp.ensureParams(definitions);
+        return sp;
+    }
+
+    @Benchmark
+    public SystemParams ensureParamLoopExisting() {
+        return ensureEach(new SystemParams(populated));
+    }
+
+    @Benchmark
+    public SystemParams ensureParamsBatchExisting() {
+        SystemParams sp = new SystemParams(populated);
+        sp.ensureParams(definitions);
+        return sp;
+    }
+
+    private SystemParams ensureEach(SystemParams sp) {
+        for (ParamDefinition d : definitions) {
+            sp.ensureParam(d.key(), d.value(), d.description(), d.type(), d.tagCode(), d.displayPriority());
+        }
+        return sp;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.systemparam.bench;
+
+import com.example.systemparam.converter.ParamTypeConverter;
+import com.example.systemparam.domain.DataSize;
+import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.SystemParamDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Each {@link ParamTypeConverter} path, uncached: the cost paid once per
+ * param version on the first read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+
+    public enum Tier { GOLD, SILVER, BRONZE }
+
+    private final SystemParamDto integer = dto("5000", ParamDataType.NUMBER);
+    private final SystemParamDto decimal = dto("12.375", ParamDataType.NUMBER);
+    private final SystemParamDto bool = dto("true", ParamDataType.BOOLEAN);
+    private final SystemParamDto duration = dto("1500ms", ParamDataType.TEXT);
+    private final SystemParamDto enumValue = dto("silver", ParamDataType.TEXT);
+    private final SystemParamDto pattern = dto("^[a-z0-9._-]+@example\\.com$", ParamDataType.TEXT);
+    private final SystemParamDto dataSize = dto("64MB", ParamDataType.TEXT);
+    private final SystemParamDto csvLongs = dto("1, 2, 3, 4, 5, 6, 7, 8, 9, 10", ParamDataType.NUMBER);
+    private final SystemParamDto csvText = dto("alpha, beta, gamma, delta", ParamDataType.TEXT);
+    private final SystemParamDto jsonLongs = dto("[1,2,3,4,5,6,7,8,9,10]", ParamDataType.JSON);
+    private final SystemParamDto jsonMap = dto(
+            "{\"partnerX\":{\"rps\":50,\"burst\":100},\"partnerY\":{\"rps\":20,\"burst\":40}}", ParamDataType.JSON);
+    private final SystemParamDto jsonMapList = dto(
+            "[{\"path\":\"/a\",\"weight\":1},{\"path\":\"/b\",\"weight\":2}]", ParamDataType.JSON);
+
+    @Benchmark
+    public Integer numberToInteger() {
+        return ParamTypeConverter.convert(integer, Integer.class);
+    }
+
+    @Benchmark
+    public BigDecimal numberToBigDecimal() {
+        return ParamTypeConverter.convert(decimal, BigDecimal.class);
+    }
+
+    @Benchmark
+    public Boolean booleanValue() {
+        return ParamTypeConverter.convert(bool, Boolean.class);
+    }
+
+    @Benchmark
+    public Duration textToDuration() {
+        return ParamTypeConverter.convert(duration, Duration.class);
+    }
+
+    @Benchmark
+    public Tier textToEnum() {
+        return ParamTypeConverter.convertEnum(enumValue, Tier.class);
+    }
+
+    @Benchmark
+    public Pattern registryPattern() {
+        return ParamTypeConverter.convert(pattern, Pattern.class);
+    }
+
+    @Benchmark
+    public DataSize registryDataSize() {
+        return ParamTypeConverter.convert(dataSize, DataSize.class);
+    }
+
+    @Benchmark
+    public List<Long> csvNumberList() {
+        return ParamTypeConverter.convertList(csvLongs, Long.class);
+    }
+
+    @Benchmark
+    public List<String> csvTextList() {
+        return ParamTypeConverter.convertList(csvText, String.class);
+    }
+
+    @Benchmark
+    public List<Long> jsonList() {
+        return ParamTypeConverter.convertList(jsonLongs, Long.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> jsonToMap() {
+        return ParamTypeConverter.toMap("m", jsonMap.getValue());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> jsonToMapList() {
+        return ParamTypeConverter.toMapList("ml", jsonMapList.getValue());
+    }
+
+    @Benchmark
+    public Object jsonTree() {
+        return ParamTypeConverter.toJsonTree("m", jsonMap.getValue());
+    }
+
+    private static SystemParamDto dto(String value, ParamDataType type) {
+        SystemParamDto d = new SystemParamDto();
+        d.setKey("k");
+        d.setValue(value);
+        d.setType(type);
+        return d.freeze();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.systemparam.bench;
+
+import com.example.systemparam.converter.ParamTypeConverter;
+import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.SystemParamDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uncached duration conversion: the single-pass parser behind
+ * {@link ParamTypeConverter} against the previous ISO-then-regex chain.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DurationParsingBenchmark {
+
+    @Param({"500ms", "30s", "PT15M", "1500"})
+    public String value;
+
+    private SystemParamDto dto;
+    private SystemParamDto compound;
+
+    @Setup
+    public void setUp() {
+        dto = text("d", value);
+        compound = text("c", "2m 15s 250ms");
+    }
+
+    @Benchmark
+    public Duration current() {
+        return ParamTypeConverter.convert(dto, Duration.class);
+    }
+
+    @Benchmark
+    public Duration legacy() {
+        return LegacyDurationParsing.parseDuration(dto.getKey(), dto.getValue());
+    }
+
+    @Benchmark
+    public Duration currentCompound() {
+        return ParamTypeConverter.convert(compound, Duration.class);
+    }
+
+    private static SystemParamDto text(String key, String value) {
+        SystemParamDto d = new SystemParamDto();
+        d.setKey(key);
+        d.setValue(value);
+        d.setType(ParamDataType.TEXT);
+        return d.freeze();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.systemparam.bench;
+
+import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.ParamDefinition;
+import com.example.systemparam.domain.TagGroupViewDto;
+import com.example.systemparam.service.SystemParams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grouped views at increasing snapshot sizes, spread over 50 tags.
+ * {@code updateThenGroup} includes the cost of publishing a write, which
+ * re-sorts only the touched group.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GroupingBenchmark {
+
+    private static final int TAGS = 50;
+
+    @Param({"100", "10000", "100000"})
+    public int paramCount;
+
+    private SystemParams params;
+    private int counter;
+
+    @Setup
+    public void setUp() {
+        params = new SystemParams(new InMemoryParamRepository());
+        List<ParamDefinition> defs = new ArrayList<>(paramCount);
+        for (int i = 0; i < paramCount; i++) {
+            defs.add(new ParamDefinition("p." + i, "v" + i, null, ParamDataType.TEXT, "TAG" + (i % TAGS), i));
+        }
+        params.ensureParams(defs);
+    }
+
+    @Benchmark
+    public List<TagGroupViewDto> getAllGroupedByTag() {
+        return params.getAllGroupedByTag();
+    }
+
+    @Benchmark
+    public TagGroupViewDto getByTag() {
+        return params.getByTag("TAG7");
+    }
+
+    @Benchmark
+    public TagGroupViewDto updateThenGroup() {
+        params.update("p.7", "v" + (counter++));
+        return params.getByTag("TAG7");
+    }
+}
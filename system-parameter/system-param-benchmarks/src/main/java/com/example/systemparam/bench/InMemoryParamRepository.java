@@ -0,0 +1,48 @@
+package com.example.systemparam.bench;
+
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.domain.TagGroupDto;
+import com.example.systemparam.port.SystemParamRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Map-backed repository so the benchmarks measure the library, not a
+ * database. Stores copies, like a real repository would.
+ */
+public class InMemoryParamRepository implements SystemParamRepository {
+
+    private final Map<String, SystemParamDto> params = new ConcurrentHashMap<>();
+    private final Map<String, TagGroupDto> tags = new ConcurrentHashMap<>();
+
+    @Override
+    public SystemParamDto findByKey(String key) {
+        SystemParamDto p = params.get(key);
+        return p == null ? null : p.copy();
+    }
+
+    @Override
+    public List<SystemParamDto> findAllParams() {
+        List<SystemParamDto> out = new ArrayList<>(params.size());
+        for (SystemParamDto p : params.values()) out.add(p.copy());
+        return out;
+    }
+
+    @Override
+    public List<TagGroupDto> findAllTags() {
+        return new ArrayList<>(tags.values());
+    }
+
+    @Override
+    public void save(SystemParamDto param) {
+        params.put(param.getKey(), param.copy());
+    }
+
+    @Override
+    public void save(TagGroupDto tag) {
+        tags.put(tag.getTagCode(), tag);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.systemparam.bench;
+
+import com.example.systemparam.exception.ParamTypeMismatchException;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The duration parsing ParamTypeConverter used before the single-pass
+ * parser, kept verbatim as the benchmark baseline.
+ */
+final class LegacyDurationParsing {
+
+    private static final Pattern SIMPLE_DURATION =
+            Pattern.compile("^\\s*(\\d+)\\s*(ms|s|m|h|d)\\s*$", Pattern.CASE_INSENSITIVE);
+
+    private LegacyDurationParsing() {}
+
+    static Duration parseDuration(String key, String raw) {
+        if (raw == null) return null;
+
+        String s = raw.trim();
+        if (s.isEmpty()) return Duration.ZERO;
+
+        try {
+            return Duration.parse(s);
+        } catch (Exception ignore) {}
+
+        Matcher m = SIMPLE_DURATION.matcher(s);
+        if (m.matches()) {
+            long n = Long.parseLong(m.group(1));
+            String u = m.group(2).toLowerCase(Locale.ROOT);
+
+            return switch (u) {
+                case "ms" -> Duration.ofMillis(n);
+                case "s" -> Duration.ofSeconds(n);
+                case "m" -> Duration.ofMinutes(n);
+                case "h" -> Duration.ofHours(n);
+                case "d" -> Duration.ofDays(n);
+                default -> throw new ParamTypeMismatchException(key, "DURATION", raw);
+            };
+        }
+
+        try {
+            return Duration.ofMillis(Long.parseLong(s));
+        } catch (Exception ignore) {}
+
+        throw new ParamTypeMismatchException(key, "DURATION", raw);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.systemparam.bench;
+
+import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.service.SystemParams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state reads through {@link SystemParams} over a warm snapshot of
+ * 1,000 params. Converted values are memoized, so these measure the lookup
+ * path rather than conversion; see {@link ConverterBenchmark} for that.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceReadBenchmark {
+
+    public enum Tier { GOLD, SILVER, BRONZE }
+
+    private SystemParams params;
+
+    @Setup
+    public void setUp() {
+        params = new SystemParams(new InMemoryParamRepository());
+        for (int i = 0; i < 1_000; i++) {
+            params.set("filler." + i, "v" + i, ParamDataType.TEXT, "T" + (i % 10), i, null);
+        }
+        params.set("text", "hello", ParamDataType.TEXT, "A", 1, null);
+        params.set("number", "5000", ParamDataType.NUMBER, "A", 2, null);
+        params.set("timeout", "1500ms", ParamDataType.TEXT, "A", 3, null);
+        params.set("tier", "silver", ParamDataType.TEXT, "A", 4, null);
+        params.set("ids", "[1,2,3,4,5,6,7,8,9,10]", ParamDataType.JSON, "A", 5, null);
+        params.set("limits", "{\"partnerX\":{\"rps\":50},\"partnerY\":{\"rps\":20}}", ParamDataType.JSON, "A", 6, null);
+    }
+
+    @Benchmark
+    public String get() {
+        return params.get("text");
+    }
+
+    @Benchmark
+    public Integer getAs() {
+        return params.getAs("number", Integer.class);
+    }
+
+    @Benchmark
+    public int getInt() {
+        return params.getInt("number", 0);
+    }
+
+    @Benchmark
+    public Duration getDuration() {
+        return params.getDuration("timeout");
+    }
+
+    @Benchmark
+    public Tier getEnum() {
+        return params.getEnum("tier", Tier.class);
+    }
+
+    @Benchmark
+    public List<Long> getList() {
+        return params.getList("ids", Long.class);
+    }
+
+    @Benchmark
+    public boolean getLongSetContains() {
+        return params.getLongSet("ids").contains(7);
+    }
+
+    @Benchmark
+    public Map<String, Object> getMap() {
+        return params.getMap("limits");
+    }
+
+    @Benchmark
+    public Integer getJsonPath() {
+        return params.getJsonPath("limits", "$.partnerX.rps", Integer.class);
+    }
+
+    @Benchmark
+    public String getOrDefaultMissing() {
+        return params.getOrDefault("missing", "fallback");
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.systemparam.bench.load;
+
+import com.example.systemparam.bench.InMemoryParamRepository;
+import com.example.systemparam.cache.CachingSystemParamRepository;
+import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.ParamDefinition;
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.metrics.LatencyHistogram;
+import com.example.systemparam.port.SystemParamRepository;
+import com.example.systemparam.service.SystemParams;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives a read/write mix from many threads against a
+ * {@link SimulatedLatencyRepository} and reports throughput and latency
+ * percentiles. Run from {@code system-parameter/} after packaging:
+ *
+ * <pre>
+ * java -cp system-param-benchmarks/target/benchmarks.jar \
+ *     com.example.systemparam.bench.load.LoadTestHarness --threads=200 --latency=2ms
+ * </pre>
+ *
+ * <p>Options (defaults in brackets): {@code --mode} service|caching|repository
+ * [service], {@code --threads} [64], {@code --virtual} [false],
+ * {@code --duration} [10s], {@code --warmup} [2s], {@code --keys} [1000],
+ * {@code --write-ratio} [0.01], {@code --latency} [2ms], {@code --jitter}
+ * [500us], {@code --failure-rate} [0], {@code --bootstrap} batch|loop [batch].
+ *
+ * <p>Modes: {@code service} reads through {@link SystemParams};
+ * {@code caching} reads {@link CachingSystemParamRepository#findByKey}
+ * directly; {@code repository} reads the simulated store with no cache, as
+ * a baseline. Virtual threads need JDK 21; on older JDKs the harness says
+ * so and uses platform threads.
+ */
+public final class LoadTestHarness {
+
+    private interface Target {
+        String read(String key);
+
+        void write(String key, String value);
+    }
+
+    private final Map<String, String> options;
+    private final PrintStream out;
+
+    LoadTestHarness(Map<String, String> options, PrintStream out) {
+        this.options = options;
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("Unexpected argument: " + arg);
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        new LoadTestHarness(options, System.out).run();
+    }
+
+    void run() throws Exception {
+        String mode = option("mode", "service");
+        int threads = Integer.parseInt(option("threads", "64"));
+        boolean virtual = Boolean.parseBoolean(option("virtual", "false"));
+        Duration duration = duration(option("duration", "10s"));
+        Duration warmup = duration(option("warmup", "2s"));
+        int keyCount = Integer.parseInt(option("keys", "1000"));
+        double writeRatio = Double.parseDouble(option("write-ratio", "0.01"));
+        Duration latency = duration(option("latency", "2ms"));
+        Duration jitter = duration(option("jitter", "500us"));
+        double failureRate = Double.parseDouble(option("failure-rate", "0"));
+        boolean batch = !"loop".equals(option("bootstrap", "batch"));
+
+        SimulatedLatencyRepository store = new SimulatedLatencyRepository(
+                new InMemoryParamRepository(), latency, jitter, failureRate);
+
+        String[] keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) keys[i] = "load.param." + i;
+
+        long bootstrapStart = System.nanoTime();
+        Target target = switch (mode) {
+            case "service" -> serviceTarget(store, keys, batch);
+            case "caching" -> repositoryTarget(store, new CachingSystemParamRepository(store), keys, batch);
+            case "repository" -> repositoryTarget(store, store, keys, batch);
+            default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+        };
+        long bootstrapNanos = System.nanoTime() - bootstrapStart;
+        long bootstrapCalls = store.callCount();
+
+        ExecutorService executor = executor(threads, virtual);
+        LatencyHistogram reads = new LatencyHistogram();
+        LatencyHistogram writes = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        List<Future<?>> workers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            workers.add(executor.submit(() -> drive(target, keys, writeRatio, measureFrom, end, reads, writes, errors)));
+        }
+        for (Future<?> f : workers) f.get();
+        executor.shutdown();
+
+        double seconds = duration.toNanos() / 1e9;
+        out.printf(Locale.ROOT, "mode=%s threads=%d (%s) keys=%d write-ratio=%s latency=%s jitter=%s failure-rate=%s%n",
+                mode, threads, virtual && !(executor instanceof PlatformPool) ? "virtual" : "platform", keyCount,
+                writeRatio, format(latency.toNanos()), format(jitter.toNanos()), failureRate);
+        out.printf(Locale.ROOT, "bootstrap (%s): %s, %d repository calls%n",
+                batch ? "batch" : "loop", format(bootstrapNanos), bootstrapCalls);
+        out.printf(Locale.ROOT, "throughput: %,.0f ops/s, errors: %d, repository calls: %d (%d failed)%n%n",
+                (reads.count() + writes.count()) / seconds, errors.sum(),
+                store.callCount() - bootstrapCalls, store.failureCount());
+
+        report("reads", reads, seconds);
+        report("writes", writes, seconds);
+    }
+
+    private static void drive(Target target, String[] keys, double writeRatio, long measureFrom, long end,
+                              LatencyHistogram reads, LatencyHistogram writes, LongAdder errors) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long t0;
+        while ((t0 = System.nanoTime()) < end) {
+            String key = keys[random.nextInt(keys.length)];
+            boolean write = random.nextDouble() < writeRatio;
+            try {
+                if (write) {
+                    target.write(key, Integer.toString(random.nextInt(1_000_000)));
+                } else {
+                    target.read(key);
+                }
+            } catch (RuntimeException e) {
+                errors.increment();
+            }
+            if (t0 >= measureFrom) (write ? writes : reads).record(System.nanoTime() - t0);
+        }
+    }
+
+    private static Target serviceTarget(SystemParamRepository store, String[] keys, boolean batch) {
+        SystemParams params = new SystemParams(store);
+        if (batch) {
+            List<ParamDefinition> defs = new ArrayList<>(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                defs.add(new ParamDefinition(keys[i], i, null, ParamDataType.NUMBER, "LOAD" + (i % 20), i));
+            }
+            params.ensureParams(defs);
+        } else {
+            for (int i = 0; i < keys.length; i++) {
+                params.ensureParam(keys[i], String.valueOf(i), null, ParamDataType.NUMBER, "LOAD" + (i % 20), i);
+            }
+        }
+
+        return new Target() {
+            @Override
+            public String read(String key) {
+                return params.get(key);
+            }
+
+            @Override
+            public void write(String key, String value) {
+                params.update(key, value);
+            }
+        };
+    }
+
+    private static Target repositoryTarget(SystemParamRepository store, SystemParamRepository reader,
+                                           String[] keys, boolean batch) {
+        List<SystemParamDto> seed = new ArrayList<>(keys.length);
+        for (int i = 0; i < keys.length; i++) seed.add(param(keys[i], String.valueOf(i)));
+        if (batch) {
+            reader.saveParams(seed);
+        } else {
+            for (SystemParamDto p : seed) reader.save(p);
+        }
+        if (reader != store) reader.findAllParams();
+
+        return new Target() {
+            @Override
+            public String read(String key) {
+                SystemParamDto p = reader.findByKey(key);
+                return p == null ? null : p.getValue();
+            }
+
+            @Override
+            public void write(String key, String value) {
+                reader.save(param(key, value));
+            }
+        };
+    }
+
+    private static SystemParamDto param(String key, String value) {
+        SystemParamDto p = new SystemParamDto();
+        p.setKey(key);
+        p.setValue(value);
+        p.setType(ParamDataType.NUMBER);
+        return p;
+    }
+
+    private void report(String label, LatencyHistogram h, double seconds) {
+        if (h.count() == 0) {
+            out.printf(Locale.ROOT, "%s: none%n%n", label);
+            return;
+        }
+        out.printf(Locale.ROOT, "%s: %,d ops (%,.0f/s)  mean %s  p50 %s  p99 %s  p99.9 %s  max %s%n",
+                label, h.count(), h.count() / seconds, format((long) h.meanNanos()),
+                format(h.percentileNanos(50)), format(h.percentileNanos(99)),
+                format(h.percentileNanos(99.9)), format(h.maxNanos()));
+
+        // One row per power of two keeps the table short.
+        long[] rowCounts = new long[64];
+        long[] rowBounds = new long[64];
+        h.forEachBucket((upper, count) -> {
+            int row = 63 - Long.numberOfLeadingZeros(Math.max(1, upper));
+            rowCounts[row] += count;
+            rowBounds[row] = Math.max(rowBounds[row], upper);
+        });
+        long total = h.count();
+        for (int row = 0; row < 64; row++) {
+            if (rowCounts[row] == 0) continue;
+            double share = 100.0 * rowCounts[row] / total;
+            out.printf(Locale.ROOT, "  <= %9s %6.2f%% %s%n",
+                    format(rowBounds[row]), share, "#".repeat((int) Math.ceil(share / 2)));
+        }
+        out.println();
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    /**
+     * Thread pool of the requested kind. Virtual threads are looked up
+     * reflectively so the module still builds for JDK 17.
+     */
+    private ExecutorService executor(int threads, boolean virtual) {
+        if (virtual) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                out.println("virtual threads are not available on this JDK; using platform threads");
+            }
+        }
+        return new PlatformPool(threads);
+    }
+
+    private static final class PlatformPool extends ThreadPoolExecutor {
+        PlatformPool(int threads) {
+            super(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        }
+    }
+
+    static Duration duration(String text) {
+        String s = text.trim().toLowerCase(Locale.ROOT);
+        if (s.endsWith("ms")) return Duration.ofMillis(Long.parseLong(s.substring(0, s.length() - 2)));
+        if (s.endsWith("us")) return Duration.ofNanos(Long.parseLong(s.substring(0, s.length() - 2)) * 1_000);
+        if (s.endsWith("ns")) return Duration.ofNanos(Long.parseLong(s.substring(0, s.length() - 2)));
+        if (s.endsWith("s")) return Duration.ofSeconds(Long.parseLong(s.substring(0, s.length() - 1)));
+        return Duration.ofMillis(Long.parseLong(s));
+    }
+
+    static String format(long nanos) {
+        if (nanos < 1_000) return nanos + "ns";
+        if (nanos < 1_000_000) return String.format(Locale.ROOT, "%.1fus", nanos / 1e3);
+        if (nanos < 1_000_000_000) return String.format(Locale.ROOT, "%.2fms", nanos / 1e6);
+        return String.format(Locale.ROOT, "%.2fs", nanos / 1e9);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.systemparam.bench.load;
+
+import com.example.systemparam.domain.ParamChangeSet;
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.domain.TagGroupDto;
+import com.example.systemparam.exception.ParamRepositoryException;
+import com.example.systemparam.port.SystemParamRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Stands in for a remote database: every call pays a round trip of
+ * {@code latency} plus up to {@code jitter}, then fails with probability
+ * {@code failureRate} before reaching the delegate. Batch methods cost one
+ * round trip, as they would over JDBC. Waiting parks the thread, so
+ * virtual threads unmount while they wait.
+ */
+public class SimulatedLatencyRepository implements SystemParamRepository {
+
+    private final SystemParamRepository delegate;
+    private final long latencyNanos;
+    private final long jitterNanos;
+    private final double failureRate;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public SimulatedLatencyRepository(SystemParamRepository delegate, Duration latency, Duration jitter,
+                                      double failureRate) {
+        if (delegate == null) throw new IllegalArgumentException("delegate is required");
+        if (failureRate < 0 || failureRate > 1) throw new IllegalArgumentException("failureRate must be in [0, 1]");
+        this.delegate = delegate;
+        this.latencyNanos = latency == null ? 0 : Math.max(0, latency.toNanos());
+        this.jitterNanos = jitter == null ? 0 : Math.max(0, jitter.toNanos());
+        this.failureRate = failureRate;
+    }
+
+    public long callCount() {
+        return calls.sum();
+    }
+
+    public long failureCount() {
+        return failures.sum();
+    }
+
+    @Override
+    public SystemParamDto findByKey(String key) {
+        roundTrip("findByKey");
+        return delegate.findByKey(key);
+    }
+
+    @Override
+    public List<SystemParamDto> findByKeys(Collection<String> keys) {
+        roundTrip("findByKeys");
+        return delegate.findByKeys(keys);
+    }
+
+    @Override
+    public List<SystemParamDto> findAllParams() {
+        roundTrip("findAllParams");
+        return delegate.findAllParams();
+    }
+
+    @Override
+    public List<TagGroupDto> findAllTags() {
+        roundTrip("findAllTags");
+        return delegate.findAllTags();
+    }
+
+    @Override
+    public void save(SystemParamDto param) {
+        roundTrip("save");
+        delegate.save(param);
+    }
+
+    @Override
+    public void save(TagGroupDto tag) {
+        roundTrip("save");
+        delegate.save(tag);
+    }
+
+    @Override
+    public void saveParams(Collection<SystemParamDto> params) {
+        roundTrip("saveParams");
+        delegate.saveParams(params);
+    }
+
+    @Override
+    public void saveTags(Collection<TagGroupDto> tags) {
+        roundTrip("saveTags");
+        delegate.saveTags(tags);
+    }
+
+    @Override
+    public long currentRevision() {
+        roundTrip("currentRevision");
+        return delegate.currentRevision();
+    }
+
+    @Override
+    public ParamChangeSet findChangedSince(long revision) {
+        roundTrip("findChangedSince");
+        return delegate.findChangedSince(revision);
+    }
+
+    private void roundTrip(String operation) {
+        calls.increment();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long pause = latencyNanos + (jitterNanos > 0 ? random.nextLong(jitterNanos + 1) : 0);
+        if (pause > 0) {
+            long deadline = System.nanoTime() + pause;
+            for (long left = pause; left > 0; left = deadline - System.nanoTime()) {
+                LockSupport.parkNanos(left);
+            }
+        }
+
+        if (failureRate > 0 && random.nextDouble() < failureRate) {
+            failures.increment();
+            throw new ParamRepositoryException("simulated failure in " + operation, null);
+        }
+    }
+}
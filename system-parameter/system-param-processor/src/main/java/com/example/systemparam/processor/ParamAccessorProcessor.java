@@ -0,0 +1,297 @@
+package com.example.systemparam.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates {@code <Interface>Impl} for every {@code @ParamAccessor}
+ * interface. Each {@code @ParamKey} method gets a dense index into an array
+ * of {@code ParamRef}s taken once in the constructor, so a call is an array
+ * load and a volatile read rather than a lookup by key.
+ *
+ * <p>With {@code -Asystemparam.keys=<file>} (one key per line, {@code #}
+ * comments), keys missing from the file are compile errors.
+ */
+@SupportedAnnotationTypes(ParamAccessorProcessor.PARAM_ACCESSOR)
+@SupportedOptions(ParamAccessorProcessor.KEYS_OPTION)
+public final class ParamAccessorProcessor extends AbstractProcessor {
+
+    static final String PARAM_ACCESSOR = "com.example.systemparam.annotation.ParamAccessor";
+    static final String PARAM_KEY = "com.example.systemparam.annotation.ParamKey";
+    static final String KEYS_OPTION = "systemparam.keys";
+
+    private static final String SERVICE = "com.example.systemparam.service.SystemParamService";
+    private static final String PARAM_REF = "com.example.systemparam.service.ParamRef";
+    private static final String MISMATCH = "com.example.systemparam.exception.ParamTypeMismatchException";
+
+    private Set<String> knownKeys;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment env) {
+        super.init(env);
+        knownKeys = loadKeys(env.getOptions().get(KEYS_OPTION));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        TypeElement accessor = processingEnv.getElementUtils().getTypeElement(PARAM_ACCESSOR);
+        if (accessor == null) return false;
+
+        for (Element e : round.getElementsAnnotatedWith(accessor)) {
+            if (e.getKind() != ElementKind.INTERFACE) {
+                error(e, "@ParamAccessor is only supported on interfaces");
+                continue;
+            }
+            TypeElement type = (TypeElement) e;
+            List<Accessor> accessors = collect(type);
+            if (accessors != null) write(type, accessors);
+        }
+        return true;
+    }
+
+    private record Accessor(ExecutableElement method, String key, TypeMirror returnType) {
+    }
+
+    /**
+     * The interface's accessors in declaration order, or {@code null} after
+     * reporting why it cannot be implemented.
+     */
+    private List<Accessor> collect(TypeElement type) {
+        boolean ok = true;
+        if (!type.getTypeParameters().isEmpty()) {
+            error(type, "@ParamAccessor interfaces cannot be generic");
+            ok = false;
+        }
+        if (!type.getInterfaces().isEmpty()) {
+            error(type, "@ParamAccessor interfaces cannot extend other interfaces");
+            ok = false;
+        }
+        if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            error(type, "@ParamAccessor interfaces cannot be private");
+            ok = false;
+        }
+
+        List<Accessor> out = new ArrayList<>();
+        Map<String, ExecutableElement> byKey = new HashMap<>();
+        for (ExecutableElement m : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (m.isDefault() || m.getModifiers().contains(Modifier.STATIC)
+                    || m.getModifiers().contains(Modifier.PRIVATE)) {
+                continue;
+            }
+
+            String key = paramKey(m);
+            if (key == null) {
+                error(m, "Abstract methods of a @ParamAccessor interface need @ParamKey");
+                ok = false;
+                continue;
+            }
+            if (key.isBlank() || !key.equals(key.strip()) || key.chars().anyMatch(Character::isWhitespace)) {
+                error(m, "Invalid param key \"" + key + "\"");
+                ok = false;
+                continue;
+            }
+            if (knownKeys != null && !knownKeys.contains(key)) {
+                error(m, "Unknown param key \"" + key + "\"");
+                ok = false;
+                continue;
+            }
+            ExecutableElement previous = byKey.putIfAbsent(key, m);
+            if (previous != null) {
+                error(m, "Param key \"" + key + "\" is already bound by " + previous.getSimpleName() + "()");
+                ok = false;
+                continue;
+            }
+            if (!m.getParameters().isEmpty() || !m.getTypeParameters().isEmpty()) {
+                error(m, "@ParamKey methods take no parameters");
+                ok = false;
+                continue;
+            }
+            if (!isSupported(m.getReturnType())) {
+                error(m, "Unsupported return type " + m.getReturnType()
+                        + "; use int, long, double, boolean or a non-generic class");
+                ok = false;
+                continue;
+            }
+            out.add(new Accessor(m, key, m.getReturnType()));
+        }
+        return ok ? out : null;
+    }
+
+    private static boolean isSupported(TypeMirror t) {
+        TypeKind kind = t.getKind();
+        if (kind == TypeKind.INT || kind == TypeKind.LONG || kind == TypeKind.DOUBLE || kind == TypeKind.BOOLEAN) {
+            return true;
+        }
+        return kind == TypeKind.DECLARED && ((DeclaredType) t).getTypeArguments().isEmpty();
+    }
+
+    private static String paramKey(ExecutableElement m) {
+        for (AnnotationMirror a : m.getAnnotationMirrors()) {
+            if (!((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().contentEquals(PARAM_KEY)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e : a.getElementValues().entrySet()) {
+                if (e.getKey().getSimpleName().contentEquals("value")) return String.valueOf(e.getValue().getValue());
+            }
+        }
+        return null;
+    }
+
+    private void write(TypeElement type, List<Accessor> accessors) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String implName = implName(type);
+        String qualifiedImpl = packageName.isEmpty() ? implName : packageName + "." + implName;
+
+        StringBuilder src = new StringBuilder(1024);
+        if (!packageName.isEmpty()) src.append("package ").append(packageName).append(";\n\n");
+        src.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        if (type.getModifiers().contains(Modifier.PUBLIC)) src.append("public ");
+        src.append("final class ").append(implName).append(" implements ")
+                .append(type.getQualifiedName()).append(" {\n\n");
+
+        src.append("    private static final String[] KEYS = {\n");
+        for (Accessor a : accessors) src.append("            ").append(literal(a.key())).append(",\n");
+        src.append("    };\n\n");
+
+        src.append("    private final ").append(SERVICE).append(" params;\n");
+        src.append("    private final ").append(PARAM_REF).append("<?>[] refs;\n\n");
+
+        src.append("    public ").append(implName).append("(").append(SERVICE).append(" params) {\n");
+        src.append("        if (params == null) throw new IllegalArgumentException(\"params is required\");\n");
+        src.append("        this.params = params;\n");
+        src.append("        this.refs = new ").append(PARAM_REF).append("<?>[] {\n");
+        for (int i = 0; i < accessors.size(); i++) {
+            src.append("                params.ref(KEYS[").append(i).append("], ")
+                    .append(boxed(accessors.get(i).returnType())).append(".class, null),\n");
+        }
+        src.append("        };\n");
+        src.append("    }\n");
+
+        for (int i = 0; i < accessors.size(); i++) {
+            Accessor a = accessors.get(i);
+            TypeMirror t = a.returnType();
+            String boxed = boxed(t);
+            src.append("\n    @Override\n");
+            src.append("    public ").append(sourceName(t)).append(" ")
+                    .append(a.method().getSimpleName()).append("() {\n");
+            if (t.getKind().isPrimitive()) {
+                // Missing and invalid values read as null; getAs reports which,
+                // and a stored null cannot be unboxed so it is a mismatch too.
+                src.append("        ").append(boxed).append(" v = (").append(boxed).append(") refs[")
+                        .append(i).append("].get();\n");
+                src.append("        if (v != null) return v;\n");
+                src.append("        v = params.getAs(KEYS[").append(i).append("], ").append(boxed).append(".class);\n");
+                src.append("        if (v == null) throw new ").append(MISMATCH).append("(KEYS[").append(i).append("], ")
+                        .append(literal(t.getKind() == TypeKind.BOOLEAN ? "BOOLEAN" : "NUMBER")).append(", null);\n");
+                src.append("        return v;\n");
+            } else {
+                src.append("        return (").append(boxed).append(") refs[").append(i).append("].get();\n");
+            }
+            src.append("    }\n");
+        }
+        src.append("}\n");
+
+        Filer filer = processingEnv.getFiler();
+        try (Writer w = filer.createSourceFile(qualifiedImpl, type).openWriter()) {
+            w.write(src.toString());
+        } catch (IOException e) {
+            error(type, "Could not write " + qualifiedImpl + ": " + e.getMessage());
+        }
+    }
+
+    private String sourceName(TypeMirror t) {
+        return t.getKind().isPrimitive() ? t.toString() : boxed(t);
+    }
+
+    private String boxed(TypeMirror t) {
+        return switch (t.getKind()) {
+            case INT -> "java.lang.Integer";
+            case LONG -> "java.lang.Long";
+            case DOUBLE -> "java.lang.Double";
+            case BOOLEAN -> "java.lang.Boolean";
+            default -> ((TypeElement) ((DeclaredType) t).asElement()).getQualifiedName().toString();
+        };
+    }
+
+    private static String implName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement outer; e = e.getEnclosingElement()) {
+            name.insert(0, outer.getSimpleName() + "_");
+        }
+        return name.append("Impl").toString();
+    }
+
+    private static String literal(String s) {
+        StringBuilder sb = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private Set<String> loadKeys(String file) {
+        if (file == null || file.isBlank()) return null;
+
+        Set<String> keys = new HashSet<>();
+        try {
+            for (String line : Files.readAllLines(Path.of(file.trim()))) {
+                String key = line.strip();
+                if (!key.isEmpty() && !key.startsWith("#")) keys.add(key);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not read " + KEYS_OPTION + " file " + file + ": " + e.getMessage());
+            return null;
+        }
+        return keys;
+    }
+
+    private void error(Element e, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, e);
+    }
+}
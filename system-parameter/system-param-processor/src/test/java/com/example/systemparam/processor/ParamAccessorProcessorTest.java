@@ -0,0 +1,236 @@
+package com.example.systemparam.processor;
+
+import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.domain.TagGroupDto;
+import com.example.systemparam.exception.ParamNotFoundException;
+import com.example.systemparam.exception.ParamTypeMismatchException;
+import com.example.systemparam.port.SystemParamRepository;
+import com.example.systemparam.service.SystemParamService;
+import com.example.systemparam.service.SystemParams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParamAccessorProcessorTest {
+
+    static class InMemoryRepo implements SystemParamRepository {
+        private final Map<String, SystemParamDto> params = new ConcurrentHashMap<>();
+
+        @Override
+        public SystemParamDto findByKey(String key) {
+            return params.get(key);
+        }
+
+        @Override
+        public List<SystemParamDto> findAllParams() {
+            return new ArrayList<>(params.values());
+        }
+
+        @Override
+        public List<TagGroupDto> findAllTags() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void save(SystemParamDto param) {
+            params.put(param.getKey(), param.copy());
+        }
+
+        @Override
+        public void save(TagGroupDto tag) {
+        }
+    }
+
+    private static final String PAYMENT_PARAMS = """
+            package demo;
+
+            import com.example.systemparam.annotation.ParamAccessor;
+            import com.example.systemparam.annotation.ParamKey;
+            import java.time.Duration;
+
+            @ParamAccessor
+            public interface PaymentParams {
+
+                @ParamKey("payment.timeout")
+                Duration paymentTimeout();
+
+                @ParamKey("payment.max_retries")
+                int maxRetries();
+
+                @ParamKey("payment.provider")
+                String provider();
+
+                default boolean hasProvider() {
+                    return provider() != null;
+                }
+            }
+            """;
+
+    private record Result(boolean success, List<String> errors) {
+    }
+
+    @TempDir
+    Path out;
+
+    @Test
+    void generates_an_implementation_backed_by_param_refs() throws Exception {
+        Result r = compile(List.of(), PAYMENT_PARAMS);
+        assertTrue(r.success(), () -> String.join("\n", r.errors()));
+
+        String generated = Files.readString(out.resolve("demo/PaymentParamsImpl.java"));
+        assertTrue(generated.contains("params.ref(KEYS[0], java.time.Duration.class, null)"));
+        assertTrue(generated.contains("refs[1].get()"));
+
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("payment.timeout", "30s", ParamDataType.TEXT, "PAYMENT", 1, null);
+        sp.set("payment.max_retries", "3", ParamDataType.NUMBER, "PAYMENT", 2, null);
+
+        try (URLClassLoader loader = new URLClassLoader(new java.net.URL[]{out.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> iface = loader.loadClass("demo.PaymentParams");
+            Object impl = loader.loadClass("demo.PaymentParamsImpl")
+                    .getConstructor(SystemParamService.class)
+                    .newInstance(sp);
+
+            assertEquals(Duration.ofSeconds(30), iface.getMethod("paymentTimeout").invoke(impl));
+            assertEquals(3, iface.getMethod("maxRetries").invoke(impl));
+            assertNull(iface.getMethod("provider").invoke(impl));
+            assertEquals(false, iface.getMethod("hasProvider").invoke(impl));
+
+            sp.update("payment.max_retries", "5");
+            sp.set("payment.provider", "acme", ParamDataType.TEXT, "PAYMENT", 3, null);
+            assertEquals(5, iface.getMethod("maxRetries").invoke(impl));
+            assertEquals("acme", iface.getMethod("provider").invoke(impl));
+
+            Object empty = loader.loadClass("demo.PaymentParamsImpl")
+                    .getConstructor(SystemParamService.class)
+                    .newInstance(new SystemParams(new InMemoryRepo()));
+            var thrown = assertThrows(java.lang.reflect.InvocationTargetException.class,
+                    () -> iface.getMethod("maxRetries").invoke(empty));
+            assertInstanceOf(ParamNotFoundException.class, thrown.getCause());
+        }
+    }
+
+    @Test
+    void null_values_of_primitive_accessors_throw_mismatch_naming_the_key() throws Exception {
+        Result r = compile(List.of(), PAYMENT_PARAMS);
+        assertTrue(r.success(), () -> String.join("\n", r.errors()));
+
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("payment.max_retries", null, ParamDataType.NUMBER, "PAYMENT", 2, null);
+
+        try (URLClassLoader loader = new URLClassLoader(new java.net.URL[]{out.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> iface = loader.loadClass("demo.PaymentParams");
+            Object impl = loader.loadClass("demo.PaymentParamsImpl")
+                    .getConstructor(SystemParamService.class)
+                    .newInstance(sp);
+
+            var thrown = assertThrows(java.lang.reflect.InvocationTargetException.class,
+                    () -> iface.getMethod("maxRetries").invoke(impl));
+            ParamTypeMismatchException e = assertInstanceOf(ParamTypeMismatchException.class, thrown.getCause());
+            assertEquals("payment.max_retries", e.getKey());
+            assertEquals("NUMBER", e.getExpected());
+        }
+    }
+
+    @Test
+    void rejects_duplicate_keys_and_unsupported_methods() {
+        Result r = compile(List.of(), """
+                package demo;
+
+                import com.example.systemparam.annotation.ParamAccessor;
+                import com.example.systemparam.annotation.ParamKey;
+
+                @ParamAccessor
+                interface Broken {
+
+                    @ParamKey("a.key")
+                    String first();
+
+                    @ParamKey("a.key")
+                    String second();
+
+                    @ParamKey("b key")
+                    String spaced();
+
+                    @ParamKey("c.key")
+                    java.util.List<String> generic();
+
+                    @ParamKey("d.key")
+                    String withArg(int x);
+
+                    String unannotated();
+                }
+                """);
+
+        assertFalse(r.success());
+        assertTrue(r.errors().stream().anyMatch(e -> e.contains("already bound by first()")), r.errors()::toString);
+        assertTrue(r.errors().stream().anyMatch(e -> e.contains("Invalid param key \"b key\"")));
+        assertTrue(r.errors().stream().anyMatch(e -> e.contains("Unsupported return type")));
+        assertTrue(r.errors().stream().anyMatch(e -> e.contains("take no parameters")));
+        assertTrue(r.errors().stream().anyMatch(e -> e.contains("need @ParamKey")));
+    }
+
+    @Test
+    void keys_file_turns_typos_into_compile_errors() throws Exception {
+        Path keys = Files.writeString(out.resolve("keys.txt"), """
+                # known keys
+                payment.timeout
+                payment.max_retries
+                payment.provider
+                """);
+        assertTrue(compile(List.of("-Asystemparam.keys=" + keys), PAYMENT_PARAMS).success());
+
+        Result typo = compile(List.of("-Asystemparam.keys=" + keys),
+                PAYMENT_PARAMS.replace("payment.max_retries", "payment.max_retires"));
+        assertFalse(typo.success());
+        assertTrue(typo.errors().stream().anyMatch(e -> e.contains("Unknown param key \"payment.max_retires\"")));
+    }
+
+    private Result compile(List<String> options, String source) {
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        String name = source.substring(source.indexOf("interface ") + 10).split("[\\s{]")[0];
+        JavaFileObject file = new SimpleJavaFileObject(
+                URI.create("string:///demo/" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+
+        List<String> args = new ArrayList<>(options);
+        args.addAll(List.of(
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", out.toString(),
+                "-s", out.toString()));
+
+        JavaCompiler.CompilationTask task = javac.getTask(null, null, diagnostics, args, null, List.of(file));
+        task.setProcessors(List.of(new ParamAccessorProcessor()));
+        boolean ok = task.call();
+
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> d : diagnostics.getDiagnostics()) {
+            if (d.getKind() == Diagnostic.Kind.ERROR) errors.add(d.getMessage(Locale.ROOT));
+        }
+        return new Result(ok, errors);
+    }
+}
@@ -0,0 +1,19 @@
+-- Upgrades tables created from the original 01_schema.sql (without revision
+-- tracking). Run once; fresh databases get the same shape from init/.
+ALTER TABLE system_param_tag
+  ADD COLUMN revision   BIGINT NOT NULL DEFAULT 0,
+  ADD COLUMN updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+  ADD INDEX idx_system_param_tag_revision (revision);
+
+ALTER TABLE system_param
+  MODIFY COLUMN display_order INT NULL,
+  ADD COLUMN revision   BIGINT NOT NULL DEFAULT 0,
+  ADD COLUMN updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+  ADD INDEX idx_system_param_revision (revision);
+
+CREATE TABLE IF NOT EXISTS system_param_revision (
+  id        TINYINT PRIMARY KEY,
+  revision  BIGINT NOT NULL
+);
+
+INSERT IGNORE INTO system_param_revision (id, revision) VALUES (1, 0);
@@ -0,0 +1,35 @@
+CREATE TABLE IF NOT EXISTS system_param_tag (
+  tag_code        VARCHAR(100) PRIMARY KEY,
+  tag_name        VARCHAR(255) NOT NULL,
+  tag_description TEXT NULL,
+  tag_priority    INT NOT NULL DEFAULT 999,
+  revision        BIGINT NOT NULL DEFAULT 0,
+  updated_at      TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+);
+
+CREATE INDEX IF NOT EXISTS idx_system_param_tag_revision ON system_param_tag (revision);
+
+CREATE TABLE IF NOT EXISTS system_param (
+  param_key      VARCHAR(100) PRIMARY KEY,
+  param_value    TEXT NOT NULL,
+  description    TEXT NULL,
+  data_type      VARCHAR(20) NOT NULL,
+  tag_code       VARCHAR(100) NULL,
+  display_order  INT NULL,
+  revision       BIGINT NOT NULL DEFAULT 0,
+  updated_at     TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  CONSTRAINT fk_system_param_tag
+    FOREIGN KEY (tag_code) REFERENCES system_param_tag(tag_code)
+);
+
+CREATE INDEX IF NOT EXISTS idx_system_param_revision ON system_param (revision);
+
+-- Single-row revision counter. Every write transaction increments it and
+-- stamps the rows it touches with the new value; the row lock keeps
+-- revisions committing in order, so "revision > N" never skips a change.
+CREATE TABLE IF NOT EXISTS system_param_revision (
+  id        SMALLINT PRIMARY KEY,
+  revision  BIGINT NOT NULL
+);
+
+INSERT INTO system_param_revision (id, revision) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
@@ -0,0 +1,22 @@
+-- Upgrades tables created without revision tracking. Run once; fresh
+-- databases get the same shape from init/.
+ALTER TABLE system_param_tag
+  ADD COLUMN IF NOT EXISTS revision   BIGINT NOT NULL DEFAULT 0,
+  ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3);
+
+CREATE INDEX IF NOT EXISTS idx_system_param_tag_revision ON system_param_tag (revision);
+
+ALTER TABLE system_param
+  ALTER COLUMN display_order DROP NOT NULL,
+  ALTER COLUMN display_order DROP DEFAULT,
+  ADD COLUMN IF NOT EXISTS revision   BIGINT NOT NULL DEFAULT 0,
+  ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3);
+
+CREATE INDEX IF NOT EXISTS idx_system_param_revision ON system_param (revision);
+
+CREATE TABLE IF NOT EXISTS system_param_revision (
+  id        SMALLINT PRIMARY KEY,
+  revision  BIGINT NOT NULL
+);
+
+INSERT INTO system_param_revision (id, revision) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
@@ -0,0 +1,41 @@
+IF OBJECT_ID('system_param_tag', 'U') IS NULL
+CREATE TABLE system_param_tag (
+  tag_code        VARCHAR(100) NOT NULL PRIMARY KEY,
+  tag_name        VARCHAR(255) NOT NULL,
+  tag_description NVARCHAR(MAX) NULL,
+  tag_priority    INT NOT NULL DEFAULT 999,
+  revision        BIGINT NOT NULL DEFAULT 0,
+  updated_at      DATETIME2(3) NOT NULL DEFAULT SYSUTCDATETIME(),
+  INDEX idx_system_param_tag_revision (revision)
+);
+GO
+
+IF OBJECT_ID('system_param', 'U') IS NULL
+CREATE TABLE system_param (
+  param_key      VARCHAR(100) NOT NULL PRIMARY KEY,
+  param_value    NVARCHAR(MAX) NOT NULL,
+  description    NVARCHAR(MAX) NULL,
+  data_type      VARCHAR(20) NOT NULL,
+  tag_code       VARCHAR(100) NULL,
+  display_order  INT NULL,
+  revision       BIGINT NOT NULL DEFAULT 0,
+  updated_at     DATETIME2(3) NOT NULL DEFAULT SYSUTCDATETIME(),
+  INDEX idx_system_param_revision (revision),
+  CONSTRAINT fk_system_param_tag
+    FOREIGN KEY (tag_code) REFERENCES system_param_tag(tag_code)
+);
+GO
+
+-- Single-row revision counter. Every write transaction increments it and
+-- stamps the rows it touches with the new value; the row lock keeps
+-- revisions committing in order, so "revision > N" never skips a change.
+IF OBJECT_ID('system_param_revision', 'U') IS NULL
+CREATE TABLE system_param_revision (
+  id        TINYINT NOT NULL PRIMARY KEY,
+  revision  BIGINT NOT NULL
+);
+GO
+
+IF NOT EXISTS (SELECT 1 FROM system_param_revision WHERE id = 1)
+INSERT INTO system_param_revision (id, revision) VALUES (1, 0);
+GO
@@ -0,0 +1,35 @@
+-- Upgrades tables created without revision tracking. Run once; fresh
+-- databases get the same shape from init/. The original display_order
+-- default constraint has a generated name, so it is looked up and dropped.
+DECLARE @df SYSNAME = (
+  SELECT d.name FROM sys.default_constraints d
+  JOIN sys.columns c ON c.object_id = d.parent_object_id AND c.column_id = d.parent_column_id
+  WHERE d.parent_object_id = OBJECT_ID('system_param') AND c.name = 'display_order');
+IF @df IS NOT NULL EXEC('ALTER TABLE system_param DROP CONSTRAINT ' + @df);
+GO
+
+ALTER TABLE system_param ALTER COLUMN display_order INT NULL;
+ALTER TABLE system_param ADD
+  revision   BIGINT NOT NULL DEFAULT 0,
+  updated_at DATETIME2(3) NOT NULL DEFAULT SYSUTCDATETIME();
+GO
+CREATE INDEX idx_system_param_revision ON system_param (revision);
+GO
+
+ALTER TABLE system_param_tag ADD
+  revision   BIGINT NOT NULL DEFAULT 0,
+  updated_at DATETIME2(3) NOT NULL DEFAULT SYSUTCDATETIME();
+GO
+CREATE INDEX idx_system_param_tag_revision ON system_param_tag (revision);
+GO
+
+IF OBJECT_ID('system_param_revision', 'U') IS NULL
+CREATE TABLE system_param_revision (
+  id        TINYINT NOT NULL PRIMARY KEY,
+  revision  BIGINT NOT NULL
+);
+GO
+
+IF NOT EXISTS (SELECT 1 FROM system_param_revision WHERE id = 1)
+INSERT INTO system_param_revision (id, revision) VALUES (1, 0);
+GO
@@ -0,0 +1,16 @@
+package com.example.systemparam.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface of {@link ParamKey} methods for which the
+ * {@code system-param-processor} generates an implementation named
+ * {@code <Interface>Impl}, constructed from a {@code SystemParamService}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface ParamAccessor {
+}
@@ -0,0 +1,18 @@
+package com.example.systemparam.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the param a record component or {@link ParamAccessor} method is
+ * bound to. Record components may omit it when the key can be derived
+ * from the component name.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.RECORD_COMPONENT, ElementType.METHOD})
+public @interface ParamKey {
+
+    String value();
+}
@@ -0,0 +1,337 @@
+package com.example.systemparam.cache;
+
+import com.example.systemparam.domain.ParamChangeSet;
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.domain.TagGroupDto;
+import com.example.systemparam.port.SystemParamRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-through cache in front of another {@link SystemParamRepository}.
+ * All rows are loaded once, {@code findByKey} is served from memory and
+ * saves are written through to the delegate before the cache is updated.
+ * Keys the delegate did not have are remembered as absent until they are
+ * saved or the cache is refreshed, so repeated lookups of optional keys
+ * stay in memory.
+ * When a refresh interval is given, the cache catches up in the background
+ * on that interval: with only the rows changed since the last revision seen
+ * if the delegate tracks revisions, otherwise with a full reload.
+ */
+public final class CachingSystemParamRepository implements SystemParamRepository, AutoCloseable {
+
+    // Bounds memory when callers probe arbitrary keys; the set is simply dropped when full.
+    static final int MAX_ABSENT_KEYS = 10_000;
+
+    private final SystemParamRepository delegate;
+    private final ScheduledExecutorService scheduler;
+    private final Object lock = new Object();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder absentHits = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    private volatile Map<String, SystemParamDto> params;
+    private volatile Map<String, TagGroupDto> tags;
+    private volatile Set<String> absent = ConcurrentHashMap.newKeySet();
+    private long revision = -1L;
+    private boolean untracked;
+
+    public CachingSystemParamRepository(SystemParamRepository delegate) {
+        this(delegate, null);
+    }
+
+    public CachingSystemParamRepository(SystemParamRepository delegate, Duration refreshInterval) {
+        if (delegate == null) throw new IllegalArgumentException("delegate is required");
+        this.delegate = delegate;
+
+        if (refreshInterval == null || refreshInterval.isZero()) {
+            this.scheduler = null;
+            return;
+        }
+        if (refreshInterval.isNegative()) throw new IllegalArgumentException("refreshInterval must be positive");
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "system-param-cache-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        long periodMillis = Math.max(1L, refreshInterval.toMillis());
+        scheduler.scheduleWithFixedDelay(this::syncQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public SystemParamDto findByKey(String key) {
+        if (key == null) return null;
+
+        SystemParamDto cached = loadedParams().get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached.copy();
+        }
+
+        Set<String> knownAbsent = absent;
+        if (knownAbsent.contains(key)) {
+            absentHits.increment();
+            return null;
+        }
+
+        misses.increment();
+        SystemParamDto loaded = delegate.findByKey(key);
+        if (loaded == null) {
+            rememberAbsent(knownAbsent, key);
+            return null;
+        }
+
+        loadedParams().putIfAbsent(key, loaded.copy());
+        return loaded;
+    }
+
+    @Override
+    public List<SystemParamDto> findByKeys(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) return List.of();
+
+        Map<String, SystemParamDto> current = loadedParams();
+        Set<String> knownAbsent = absent;
+        ArrayList<SystemParamDto> out = new ArrayList<>(keys.size());
+        LinkedHashSet<String> missing = null;
+
+        for (String key : keys) {
+            SystemParamDto cached = key == null ? null : current.get(key);
+            if (cached != null) {
+                hits.increment();
+                out.add(cached.copy());
+            } else if (key != null && knownAbsent.contains(key)) {
+                absentHits.increment();
+            } else if (key != null) {
+                misses.increment();
+                if (missing == null) missing = new LinkedHashSet<>();
+                missing.add(key);
+            }
+        }
+
+        if (missing != null) {
+            for (SystemParamDto loaded : delegate.findByKeys(missing)) {
+                if (loaded == null || loaded.getKey() == null) continue;
+                current.putIfAbsent(loaded.getKey(), loaded.copy());
+                missing.remove(loaded.getKey());
+                out.add(loaded);
+            }
+            for (String key : missing) rememberAbsent(knownAbsent, key);
+        }
+        return out;
+    }
+
+    @Override
+    public List<SystemParamDto> findAllParams() {
+        Map<String, SystemParamDto> current = loadedParams();
+        ArrayList<SystemParamDto> out = new ArrayList<>(current.size());
+        for (SystemParamDto p : current.values()) out.add(p.copy());
+        return out;
+    }
+
+    @Override
+    public List<TagGroupDto> findAllTags() {
+        loadedParams();
+        Map<String, TagGroupDto> current = tags;
+        ArrayList<TagGroupDto> out = new ArrayList<>(current.size());
+        for (TagGroupDto t : current.values()) out.add(t.copy());
+        return out;
+    }
+
+    @Override
+    public void save(SystemParamDto param) {
+        synchronized (lock) {
+            delegate.save(param);
+            if (param != null && param.getKey() != null) {
+                loadedParams().put(param.getKey(), param.copy());
+                absent.remove(param.getKey());
+            }
+        }
+    }
+
+    @Override
+    public void save(TagGroupDto tag) {
+        synchronized (lock) {
+            delegate.save(tag);
+            if (tag != null && tag.getTagCode() != null) {
+                loadedParams();
+                tags.put(tag.getTagCode(), tag.copy());
+            }
+        }
+    }
+
+    @Override
+    public void saveParams(Collection<SystemParamDto> params) {
+        synchronized (lock) {
+            delegate.saveParams(params);
+            if (params == null) return;
+
+            Map<String, SystemParamDto> current = loadedParams();
+            Set<String> knownAbsent = absent;
+            for (SystemParamDto p : params) {
+                if (p == null || p.getKey() == null) continue;
+                current.put(p.getKey(), p.copy());
+                knownAbsent.remove(p.getKey());
+            }
+        }
+    }
+
+    @Override
+    public void saveTags(Collection<TagGroupDto> tagList) {
+        synchronized (lock) {
+            delegate.saveTags(tagList);
+            if (tagList == null) return;
+
+            loadedParams();
+            for (TagGroupDto t : tagList) {
+                if (t != null && t.getTagCode() != null) tags.put(t.getTagCode(), t.copy());
+            }
+        }
+    }
+
+    @Override
+    public long currentRevision() {
+        return delegate.currentRevision();
+    }
+
+    @Override
+    public ParamChangeSet findChangedSince(long revision) {
+        return delegate.findChangedSince(revision);
+    }
+
+    public void refresh() {
+        synchronized (lock) {
+            long nextRevision = delegateRevision();
+            List<SystemParamDto> paramList = delegate.findAllParams();
+            List<TagGroupDto> tagList = delegate.findAllTags();
+
+            ConcurrentHashMap<String, SystemParamDto> nextParams =
+                    new ConcurrentHashMap<>(paramList == null ? 16 : paramList.size() * 2);
+            if (paramList != null) {
+                for (SystemParamDto p : paramList) {
+                    if (p == null || p.getKey() == null) continue;
+                    nextParams.put(p.getKey(), p.copy());
+                }
+            }
+
+            ConcurrentHashMap<String, TagGroupDto> nextTags = new ConcurrentHashMap<>();
+            if (tagList != null) {
+                for (TagGroupDto t : tagList) {
+                    if (t == null || t.getTagCode() == null) continue;
+                    nextTags.put(t.getTagCode(), t.copy());
+                }
+            }
+
+            tags = nextTags;
+            params = nextParams;
+            absent = ConcurrentHashMap.newKeySet();
+            revision = nextRevision;
+            refreshes.increment();
+        }
+    }
+
+    /**
+     * Applies the rows the delegate changed since the last refresh or sync,
+     * or reloads everything when the delegate does not track revisions.
+     */
+    public void sync() {
+        synchronized (lock) {
+            if (params == null || revision < 0) {
+                refresh();
+                return;
+            }
+
+            ParamChangeSet changes = delegate.findChangedSince(revision);
+            if (changes.revision() < revision) {
+                refresh();
+                return;
+            }
+            Set<String> knownAbsent = absent;
+            for (SystemParamDto p : changes.params()) {
+                if (p == null || p.getKey() == null) continue;
+                params.put(p.getKey(), p.copy());
+                knownAbsent.remove(p.getKey());
+            }
+            for (TagGroupDto t : changes.tags()) {
+                if (t != null && t.getTagCode() != null) tags.put(t.getTagCode(), t.copy());
+            }
+            revision = changes.revision();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long absentHitCount() {
+        return absentHits.sum();
+    }
+
+    public long refreshCount() {
+        return refreshes.sum();
+    }
+
+    public long refreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
+    public SystemParamRepository delegate() {
+        return delegate;
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    private Map<String, SystemParamDto> loadedParams() {
+        Map<String, SystemParamDto> current = params;
+        if (current != null) return current;
+
+        synchronized (lock) {
+            if (params == null) refresh();
+            return params;
+        }
+    }
+
+    private void rememberAbsent(Set<String> knownAbsent, String key) {
+        if (knownAbsent.size() >= MAX_ABSENT_KEYS) knownAbsent.clear();
+        knownAbsent.add(key);
+    }
+
+    private long delegateRevision() {
+        if (untracked) return -1L;
+        try {
+            return delegate.currentRevision();
+        } catch (UnsupportedOperationException e) {
+            untracked = true;
+            return -1L;
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.systemparam.collection;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable set of {@code int}s in a single open-addressing array, for
+ * allowlists that are checked on every request. {@link #contains(int)}
+ * neither boxes nor allocates.
+ */
+public final class IntHashSet {
+
+    private static final IntHashSet EMPTY = new IntHashSet(new int[2], false, 0);
+
+    // 0 marks a free slot; whether 0 itself is a member is kept in hasZero.
+    private final int[] slots;
+    private final boolean hasZero;
+    private final int size;
+    private final int mask;
+
+    private IntHashSet(int[] slots, boolean hasZero, int size) {
+        this.slots = slots;
+        this.hasZero = hasZero;
+        this.size = size;
+        this.mask = slots.length - 1;
+    }
+
+    public static IntHashSet of(int... values) {
+        if (values == null || values.length == 0) return EMPTY;
+
+        int capacity = Integer.highestOneBit(Math.max(2, values.length * 2 - 1)) << 1;
+        int[] slots = new int[capacity];
+        int mask = capacity - 1;
+        boolean hasZero = false;
+        int size = 0;
+
+        for (int v : values) {
+            if (v == 0) {
+                if (!hasZero) size++;
+                hasZero = true;
+                continue;
+            }
+            int i = mix(v) & mask;
+            while (slots[i] != 0 && slots[i] != v) i = (i + 1) & mask;
+            if (slots[i] == 0) {
+                slots[i] = v;
+                size++;
+            }
+        }
+        return new IntHashSet(slots, hasZero, size);
+    }
+
+    public static IntHashSet empty() {
+        return EMPTY;
+    }
+
+    public boolean contains(int value) {
+        if (value == 0) return hasZero;
+
+        for (int i = mix(value) & mask; ; i = (i + 1) & mask) {
+            int s = slots[i];
+            if (s == value) return true;
+            if (s == 0) return false;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Members in no particular order, in a new array.
+     */
+    public int[] toArray() {
+        int[] out = new int[size];
+        int n = 0;
+        if (hasZero) out[n++] = 0;
+        for (int s : slots) {
+            if (s != 0) out[n++] = s;
+        }
+        return out;
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(toArray());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntHashSet other) || other.size != size || other.hasZero != hasZero) return false;
+        for (int s : slots) {
+            if (s != 0 && !other.contains(s)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (int s : slots) h += s;
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private static int mix(int v) {
+        int h = v * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
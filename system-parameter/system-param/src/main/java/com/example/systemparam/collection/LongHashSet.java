@@ -0,0 +1,118 @@
+package com.example.systemparam.collection;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * Immutable set of {@code long}s in a single open-addressing array, for
+ * allowlists that are checked on every request. {@link #contains(long)}
+ * neither boxes nor allocates.
+ */
+public final class LongHashSet {
+
+    private static final LongHashSet EMPTY = new LongHashSet(new long[2], false, 0);
+
+    // 0 marks a free slot; whether 0 itself is a member is kept in hasZero.
+    private final long[] slots;
+    private final boolean hasZero;
+    private final int size;
+    private final int mask;
+
+    private LongHashSet(long[] slots, boolean hasZero, int size) {
+        this.slots = slots;
+        this.hasZero = hasZero;
+        this.size = size;
+        this.mask = slots.length - 1;
+    }
+
+    public static LongHashSet of(long... values) {
+        if (values == null || values.length == 0) return EMPTY;
+
+        int capacity = Integer.highestOneBit(Math.max(2, values.length * 2 - 1)) << 1;
+        long[] slots = new long[capacity];
+        int mask = capacity - 1;
+        boolean hasZero = false;
+        int size = 0;
+
+        for (long v : values) {
+            if (v == 0) {
+                if (!hasZero) size++;
+                hasZero = true;
+                continue;
+            }
+            int i = mix(v) & mask;
+            while (slots[i] != 0 && slots[i] != v) i = (i + 1) & mask;
+            if (slots[i] == 0) {
+                slots[i] = v;
+                size++;
+            }
+        }
+        return new LongHashSet(slots, hasZero, size);
+    }
+
+    public static LongHashSet empty() {
+        return EMPTY;
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) return hasZero;
+
+        for (int i = mix(value) & mask; ; i = (i + 1) & mask) {
+            long s = slots[i];
+            if (s == value) return true;
+            if (s == 0) return false;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Members in no particular order, in a new array.
+     */
+    public long[] toArray() {
+        long[] out = new long[size];
+        int n = 0;
+        if (hasZero) out[n++] = 0;
+        for (long s : slots) {
+            if (s != 0) out[n++] = s;
+        }
+        return out;
+    }
+
+    public LongStream stream() {
+        return Arrays.stream(toArray());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongHashSet other) || other.size != size || other.hasZero != hasZero) return false;
+        for (long s : slots) {
+            if (s != 0 && !other.contains(s)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (long s : slots) h += Long.hashCode(s);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private static int mix(long v) {
+        long h = v * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.systemparam.converter;
+
+import com.example.systemparam.domain.DataSize;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.net.URI;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Converters for target types beyond the ones {@link ParamTypeConverter}
+ * handles itself. Lookups are resolved once per class and cached in a
+ * {@link ClassValue}.
+ *
+ * <p>Converted values are memoized per parameter version and shared by
+ * every caller, so only register immutable types, and do not register
+ * converters that depend on anything but the raw value. Built in:
+ * {@link Pattern}, {@link URI}, {@link InetAddress} (IP literals only, so
+ * a read never waits on DNS), {@link LocalTime}, {@link Period}, {@link DateTimeFormatter} (from a
+ * pattern) and {@link DataSize}.
+ */
+public final class ConverterRegistry {
+
+    private static final ValueConverter<Object> NONE = raw -> null;
+
+    private static final ConcurrentHashMap<Class<?>, ValueConverter<?>> REGISTERED = new ConcurrentHashMap<>();
+
+    private static final ClassValue<ValueConverter<?>> RESOLVED = new ClassValue<>() {
+        @Override
+        protected ValueConverter<?> computeValue(Class<?> type) {
+            return REGISTERED.getOrDefault(type, NONE);
+        }
+    };
+
+    static {
+        register(Pattern.class, Pattern::compile);
+        register(URI.class, raw -> new URI(raw.trim()));
+        register(InetAddress.class, ConverterRegistry::ipLiteral);
+        register(LocalTime.class, raw -> LocalTime.parse(raw.trim()));
+        register(Period.class, raw -> Period.parse(raw.trim()));
+        register(DateTimeFormatter.class, DateTimeFormatter::ofPattern);
+        register(DataSize.class, DataSize::parse);
+    }
+
+    private ConverterRegistry() {}
+
+    /**
+     * {@link InetAddress#getByName} only skips the resolver for input it
+     * recognizes as a literal: anything with a colon is parsed as IPv6, and
+     * a strict dotted quad as IPv4. Everything else is rejected up front.
+     */
+    private static InetAddress ipLiteral(String raw) throws UnknownHostException {
+        String s = raw.trim();
+        if (s.indexOf(':') < 0 && !isDottedQuad(s)) {
+            throw new IllegalArgumentException("Not an IP address literal: " + s);
+        }
+        return InetAddress.getByName(s);
+    }
+
+    private static boolean isDottedQuad(String s) {
+        int parts = 0;
+        int i = 0;
+        int n = s.length();
+        while (i < n && parts < 4) {
+            int start = i;
+            int octet = 0;
+            while (i < n && i - start < 3 && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                octet = octet * 10 + (s.charAt(i++) - '0');
+            }
+            if (i == start || octet > 255) return false;
+            parts++;
+            if (i < n && parts < 4) {
+                if (s.charAt(i) != '.') return false;
+                i++;
+            }
+        }
+        return parts == 4 && i == n;
+    }
+
+    /**
+     * Adds or replaces the converter for {@code type}. Types that
+     * {@link ParamTypeConverter} converts itself (strings, numbers,
+     * booleans, durations, enums) are not looked up here.
+     */
+    public static <T> void register(Class<T> type, ValueConverter<? extends T> converter) {
+        if (type == null) throw new IllegalArgumentException("type is required");
+        if (converter == null) throw new IllegalArgumentException("converter is required");
+
+        REGISTERED.put(type, converter);
+        RESOLVED.remove(type);
+    }
+
+    public static boolean supports(Class<?> type) {
+        return RESOLVED.get(type) != NONE;
+    }
+
+    /**
+     * The converter for {@code type}, or {@code null} when none is registered.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ValueConverter<T> find(Class<T> type) {
+        ValueConverter<?> c = RESOLVED.get(type);
+        return c == NONE ? null : (ValueConverter<T>) c;
+    }
+}
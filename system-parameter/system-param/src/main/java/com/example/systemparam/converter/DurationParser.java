@@ -0,0 +1,117 @@
+package com.example.systemparam.converter;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Single-pass duration parser. Accepts ISO-8601 ({@code PT1H30M}), bare
+ * milliseconds ({@code 1500}), and one or more number/unit pairs with
+ * optional spaces ({@code 500ms}, {@code 1h30m}, {@code 2m 15s 250ms}).
+ * Units are {@code d}, {@code h}, {@code m}, {@code s} and {@code ms},
+ * case-insensitive. A leading {@code -} negates the whole value.
+ *
+ * <p>Returns {@code null} instead of throwing for input it cannot read, so
+ * callers decide how to report it. Totals too large for a {@link Duration}
+ * throw {@link ArithmeticException}, as {@code Duration.ofDays} does.
+ */
+final class DurationParser {
+
+    private DurationParser() {}
+
+    static Duration parse(String raw) {
+        if (raw == null) return null;
+
+        int end = raw.length();
+        int i = 0;
+        while (i < end && Character.isWhitespace(raw.charAt(i))) i++;
+        while (end > i && Character.isWhitespace(raw.charAt(end - 1))) end--;
+        if (i == end) return Duration.ZERO;
+
+        boolean negative = false;
+        char first = raw.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (i + 1 < end && isIsoStart(raw.charAt(i + 1))) return parseIso(raw, i, end);
+            i++;
+            if (i == end) return null;
+        } else if (isIsoStart(first)) {
+            return parseIso(raw, i, end);
+        }
+
+        long millis = 0;
+        // Only used once the total no longer fits in long milliseconds.
+        Duration wide = null;
+        boolean sawUnit = false;
+        int pairs = 0;
+
+        while (i < end) {
+            int digitsStart = i;
+            long n = 0;
+            while (i < end) {
+                char c = raw.charAt(i);
+                if (c < '0' || c > '9') break;
+                if (n > (Long.MAX_VALUE - (c - '0')) / 10) return null;
+                n = n * 10 + (c - '0');
+                i++;
+            }
+            if (i == digitsStart) return null;
+
+            while (i < end && Character.isWhitespace(raw.charAt(i))) i++;
+            if (i == end) {
+                // A trailing bare number is milliseconds, but only on its own.
+                if (sawUnit) return null;
+                millis = n;
+                pairs++;
+                break;
+            }
+
+            long unitMillis;
+            char u = Character.toLowerCase(raw.charAt(i));
+            char next = i + 1 < end ? Character.toLowerCase(raw.charAt(i + 1)) : 0;
+            if (u == 'm' && next == 's') {
+                unitMillis = 1L;
+                i += 2;
+            } else {
+                unitMillis = switch (u) {
+                    case 'd' -> 86_400_000L;
+                    case 'h' -> 3_600_000L;
+                    case 'm' -> 60_000L;
+                    case 's' -> 1_000L;
+                    default -> -1L;
+                };
+                if (unitMillis < 0) return null;
+                i++;
+            }
+
+            if (i < end && Character.isLetter(raw.charAt(i))) return null;
+            if (wide == null) {
+                try {
+                    millis = Math.addExact(millis, Math.multiplyExact(n, unitMillis));
+                } catch (ArithmeticException e) {
+                    wide = Duration.ofMillis(millis);
+                }
+            }
+            if (wide != null) wide = wide.plus(Duration.ofMillis(unitMillis).multipliedBy(n));
+            sawUnit = true;
+            pairs++;
+
+            while (i < end && Character.isWhitespace(raw.charAt(i))) i++;
+        }
+
+        if (pairs == 0) return null;
+        if (wide != null) return negative ? wide.negated() : wide;
+        return Duration.ofMillis(negative ? -millis : millis);
+    }
+
+    private static boolean isIsoStart(char c) {
+        return c == 'P' || c == 'p';
+    }
+
+    private static Duration parseIso(String raw, int start, int end) {
+        try {
+            return Duration.parse(start == 0 && end == raw.length() ? raw : raw.substring(start, end));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
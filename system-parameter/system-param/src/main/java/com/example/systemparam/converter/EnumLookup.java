@@ -0,0 +1,75 @@
+package com.example.systemparam.converter;
+
+/**
+ * Case-insensitive name table for one enum class, built once per class. A
+ * lookup hashes the (already trimmed) region of the input in place, so it
+ * neither allocates nor throws. An exact-case match wins; otherwise the
+ * first constant in declaration order that matches ignoring case is used.
+ */
+final class EnumLookup {
+
+    private static final ClassValue<EnumLookup> TABLES = new ClassValue<>() {
+        @Override
+        protected EnumLookup computeValue(Class<?> type) {
+            Enum<?>[] constants = (Enum<?>[]) type.getEnumConstants();
+            return new EnumLookup(constants == null ? new Enum<?>[0] : constants);
+        }
+    };
+
+    private final Enum<?>[] slots;
+    private final int mask;
+
+    private EnumLookup(Enum<?>[] constants) {
+        int capacity = Integer.highestOneBit(Math.max(4, constants.length * 2 - 1)) << 1;
+        this.slots = new Enum<?>[capacity];
+        this.mask = capacity - 1;
+
+        for (Enum<?> c : constants) {
+            String name = c.name();
+            int i = hash(name, 0, name.length()) & mask;
+            while (slots[i] != null) i = (i + 1) & mask;
+            slots[i] = c;
+        }
+    }
+
+    /**
+     * Constant of {@code enumType} named by {@code raw} once surrounding
+     * whitespace is ignored, or {@code null} when there is none.
+     */
+    static <E extends Enum<?>> E find(Class<E> enumType, String raw) {
+        return find(enumType, raw, 0, raw.length());
+    }
+
+    /**
+     * Same as {@link #find(Class, String)} for {@code raw[from, to)}.
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Enum<?>> E find(Class<E> enumType, String raw, int from, int to) {
+        while (from < to && Character.isWhitespace(raw.charAt(from))) from++;
+        while (to > from && Character.isWhitespace(raw.charAt(to - 1))) to--;
+
+        return (E) TABLES.get(enumType).find(raw, from, to);
+    }
+
+    private Enum<?> find(String raw, int from, int to) {
+        int len = to - from;
+        Enum<?> folded = null;
+
+        for (int i = hash(raw, from, to) & mask; slots[i] != null; i = (i + 1) & mask) {
+            String name = slots[i].name();
+            if (name.length() != len) continue;
+            if (name.regionMatches(false, 0, raw, from, len)) return slots[i];
+            if (folded == null && name.regionMatches(true, 0, raw, from, len)) folded = slots[i];
+        }
+        return folded;
+    }
+
+    // Folds case the same way String.equalsIgnoreCase compares characters.
+    private static int hash(String s, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.systemparam.converter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled path into a parsed JSON tree, such as {@code $.limits.partnerX.rps}
+ * or {@code $.routes[0]['path']}. Only member and index steps are supported;
+ * the leading {@code $} is optional.
+ *
+ * <p>Compiled paths are cached by expression, so {@link #compile(String)}
+ * is cheap to call on every read.
+ */
+public final class JsonPath {
+
+    private static final int MAX_CACHED = 1_024;
+    private static final ConcurrentHashMap<String, JsonPath> CACHE = new ConcurrentHashMap<>();
+
+    private final String expression;
+    // One step per element: a member name, or null where indexes[i] applies.
+    private final String[] names;
+    private final int[] indexes;
+
+    private JsonPath(String expression, String[] names, int[] indexes) {
+        this.expression = expression;
+        this.names = names;
+        this.indexes = indexes;
+    }
+
+    public static JsonPath compile(String expression) {
+        if (expression == null) throw new IllegalArgumentException("path is required");
+
+        JsonPath cached = CACHE.get(expression);
+        if (cached != null) return cached;
+
+        JsonPath path = parse(expression);
+        if (CACHE.size() >= MAX_CACHED) CACHE.clear();
+        CACHE.putIfAbsent(expression, path);
+        return path;
+    }
+
+    /**
+     * The node at this path, or {@code null} when a step does not match
+     * the tree (missing member, index out of range, or wrong container).
+     */
+    public Object evaluate(Object root) {
+        Object node = root;
+        for (int i = 0; i < names.length && node != null; i++) {
+            String name = names[i];
+            if (name != null) {
+                node = node instanceof Map<?, ?> m ? m.get(name) : null;
+            } else {
+                int index = indexes[i];
+                node = node instanceof List<?> l && index < l.size() ? l.get(index) : null;
+            }
+        }
+        return node;
+    }
+
+    public String expression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static JsonPath parse(String expression) {
+        String p = expression.trim();
+        int i = 0;
+        int n = p.length();
+        if (i < n && p.charAt(i) == '$') i++;
+
+        List<String> names = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        while (i < n) {
+            char c = p.charAt(i);
+            if (c == '.' || (i == 0 && c != '[')) {
+                if (c == '.') i++;
+                int start = i;
+                while (i < n && p.charAt(i) != '.' && p.charAt(i) != '[') i++;
+                if (i == start) throw invalid(expression);
+                names.add(p.substring(start, i));
+                indexes.add(-1);
+            } else if (c == '[') {
+                i++;
+                if (i < n && (p.charAt(i) == '\'' || p.charAt(i) == '"')) {
+                    char quote = p.charAt(i++);
+                    int start = i;
+                    while (i < n && p.charAt(i) != quote) i++;
+                    if (i + 1 >= n || p.charAt(i + 1) != ']') throw invalid(expression);
+                    names.add(p.substring(start, i));
+                    indexes.add(-1);
+                    i += 2;
+                } else {
+                    int start = i;
+                    int index = 0;
+                    while (i < n && p.charAt(i) >= '0' && p.charAt(i) <= '9') {
+                        if (index > (Integer.MAX_VALUE - 9) / 10) throw invalid(expression);
+                        index = index * 10 + (p.charAt(i++) - '0');
+                    }
+                    if (i == start || i >= n || p.charAt(i) != ']') throw invalid(expression);
+                    names.add(null);
+                    indexes.add(index);
+                    i++;
+                }
+            } else {
+                throw invalid(expression);
+            }
+        }
+
+        int[] ix = new int[indexes.size()];
+        for (int k = 0; k < ix.length; k++) ix[k] = indexes.get(k);
+        return new JsonPath(expression, names.toArray(new String[0]), ix);
+    }
+
+    private static IllegalArgumentException invalid(String expression) {
+        return new IllegalArgumentException("Unsupported JSON path: " + expression);
+    }
+}
@@ -6,18 +6,26 @@ import com.example.systemparam.exception.ParamTypeMismatchException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public final class ParamTypeConverter {
 
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
-    private static final Pattern SIMPLE_DURATION =
-            Pattern.compile("^\\s*(\\d+)\\s*(ms|s|m|h|d)\\s*$", Pattern.CASE_INSENSITIVE);
+    private static final JavaType MAP_LIST_TYPE =
+            MAPPER.getTypeFactory().constructCollectionType(List.class, Map.class);
+
+    private static final ClassValue<JavaType> LIST_TYPES = new ClassValue<>() {
+        @Override
+        protected JavaType computeValue(Class<?> elementType) {
+            return MAPPER.getTypeFactory().constructCollectionType(List.class, elementType);
+        }
+    };
 
     private ParamTypeConverter() {}
 
@@ -59,22 +67,119 @@ public final class ParamTypeConverter {
             return readJsonList(key, value, elementType);
         }
 
-        String[] parts = value.split(",");
-        ArrayList<T> out = new ArrayList<>();
-        for (String p : parts) {
-            String item = p == null ? "" : p.trim();
-            if (item.isEmpty()) continue;
+        ElementParser<T> parser = elementParser(type, elementType);
+
+        int count = 1;
+        for (int i = value.indexOf(','); i >= 0; i = value.indexOf(',', i + 1)) count++;
+
+        ArrayList<T> out = new ArrayList<>(count);
+        int length = value.length();
+        int start = 0;
+        while (start <= length) {
+            int comma = value.indexOf(',', start);
+            if (comma < 0) comma = length;
 
-            SystemParamDto tmp = new SystemParamDto();
-            tmp.setKey(key);
-            tmp.setType(type);
-            tmp.setValue(item);
+            int from = start;
+            int to = comma;
+            while (from < to && value.charAt(from) <= ' ') from++;
+            while (to > from && value.charAt(to - 1) <= ' ') to--;
+            if (from < to) out.add(parser.parse(key, value, from, to));
 
-            out.add(convert(tmp, elementType));
+            start = comma + 1;
         }
         return out;
     }
 
+    /**
+     * Converts one list element, {@code src[from, to)}, already trimmed.
+     */
+    @FunctionalInterface
+    private interface ElementParser<T> {
+        T parse(String key, String src, int from, int to);
+    }
+
+    /**
+     * Picks the element conversion once per list, following the same rules
+     * as {@link #convert(SystemParamDto, Class)} for a single value.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> ElementParser<T> elementParser(ParamDataType type, Class<T> elementType) {
+        ElementParser<?> parser = switch (type) {
+            case TEXT -> {
+                if (elementType == String.class) yield ParamTypeConverter::substring;
+                if (elementType == Duration.class) {
+                    yield (k, src, from, to) -> parseDuration(k, src.substring(from, to));
+                }
+                if (elementType.isEnum()) {
+                    Class<? extends Enum<?>> enumType = (Class) elementType;
+                    yield (k, src, from, to) -> {
+                        Enum<?> e = EnumLookup.find(enumType, src, from, to);
+                        if (e == null) throw new ParamTypeMismatchException(k, "ENUM", src.substring(from, to));
+                        return e;
+                    };
+                }
+                if (ConverterRegistry.supports(elementType)) {
+                    yield (k, src, from, to) -> convertRegistered(k, src.substring(from, to), elementType, "TEXT");
+                }
+                yield mismatch("TEXT");
+            }
+            case NUMBER -> {
+                if (elementType == String.class) yield ParamTypeConverter::substring;
+                if (elementType == Integer.class || elementType == int.class) {
+                    yield (k, src, from, to) -> {
+                        try {
+                            return Integer.parseInt(src, from, to, 10);
+                        } catch (NumberFormatException e) {
+                            throw new ParamTypeMismatchException(k, "NUMBER", src.substring(from, to));
+                        }
+                    };
+                }
+                if (elementType == Long.class || elementType == long.class) {
+                    yield (k, src, from, to) -> {
+                        try {
+                            return Long.parseLong(src, from, to, 10);
+                        } catch (NumberFormatException e) {
+                            throw new ParamTypeMismatchException(k, "NUMBER", src.substring(from, to));
+                        }
+                    };
+                }
+                if (elementType == Double.class || elementType == double.class
+                        || elementType == BigDecimal.class) {
+                    yield (k, src, from, to) -> convertNumber(k, src.substring(from, to), elementType);
+                }
+                if (ConverterRegistry.supports(elementType)) {
+                    yield (k, src, from, to) -> convertRegistered(k, src.substring(from, to), elementType, "NUMBER");
+                }
+                yield mismatch("NUMBER");
+            }
+            case BOOLEAN -> {
+                if (elementType == Boolean.class || elementType == boolean.class) {
+                    yield (k, src, from, to) -> {
+                        int len = to - from;
+                        if (len == 1 && src.charAt(from) == '1') return Boolean.TRUE;
+                        if (len == 1 && src.charAt(from) == '0') return Boolean.FALSE;
+                        if (len == 4 && src.regionMatches(true, from, "true", 0, 4)) return Boolean.TRUE;
+                        if (len == 5 && src.regionMatches(true, from, "false", 0, 5)) return Boolean.FALSE;
+                        throw new ParamTypeMismatchException(k, "BOOLEAN", src.substring(from, to));
+                    };
+                }
+                yield mismatch("BOOLEAN");
+            }
+            case JSON -> throw new IllegalStateException("JSON lists are read by Jackson");
+        };
+        return (ElementParser<T>) parser;
+    }
+
+    private static String substring(String key, String src, int from, int to) {
+        return src.substring(from, to);
+    }
+
+    private static ElementParser<Object> mismatch(String expected) {
+        return (k, src, from, to) -> {
+            throw new ParamTypeMismatchException(k, expected, src.substring(from, to));
+        };
+    }
+
     @SuppressWarnings("unchecked")
     public static Map<String, Object> toMap(String key, String raw) {
         Objects.requireNonNull(key, "key");
@@ -97,9 +202,7 @@ public final class ParamTypeConverter {
         Objects.requireNonNull(raw, "raw");
 
         try {
-            JavaType type = MAPPER.getTypeFactory().constructCollectionType(List.class, Map.class);
-            Object obj = MAPPER.readValue(raw, type);
-            return (List<Map<String, Object>>) obj;
+            return MAPPER.readValue(raw, MAP_LIST_TYPE);
         } catch (Exception e) {
             throw new ParamTypeMismatchException(key, "JSON[]", raw);
         }
@@ -109,6 +212,60 @@ public final class ParamTypeConverter {
         return toMapList("(unknown)", raw);
     }
 
+    /**
+     * Parses a JSON value into a read-only tree of maps, lists and scalars,
+     * keeping object field order. The containers Jackson builds are wrapped
+     * in place rather than copied.
+     */
+    public static Object toJsonTree(String key, String raw) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(raw, "raw");
+
+        Object tree;
+        try {
+            tree = MAPPER.readValue(raw, Object.class);
+        } catch (Exception e) {
+            throw new ParamTypeMismatchException(key, "JSON", raw);
+        }
+        return freeze(tree);
+    }
+
+    /**
+     * Converts one node of a {@link #toJsonTree} result, handing back the
+     * node itself when it already has the requested type. Strings convert
+     * to durations and enums with the same rules as TEXT params.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T convertJsonNode(String key, Object node, Class<T> targetType) {
+        Objects.requireNonNull(targetType, "targetType");
+        if (node == null || targetType.isInstance(node)) return (T) node;
+
+        if (node instanceof String s && (targetType == Duration.class || targetType.isEnum())) {
+            return (T) convertText(key, s, targetType);
+        }
+        try {
+            return MAPPER.convertValue(node, targetType);
+        } catch (IllegalArgumentException e) {
+            throw new ParamTypeMismatchException(key, "JSON", String.valueOf(node));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object freeze(Object node) {
+        if (node instanceof Map<?, ?> m) {
+            for (Map.Entry<Object, Object> e : ((Map<Object, Object>) m).entrySet()) {
+                e.setValue(freeze(e.getValue()));
+            }
+            return Collections.unmodifiableMap(m);
+        }
+        if (node instanceof List<?> l) {
+            ListIterator<Object> it = ((List<Object>) l).listIterator();
+            while (it.hasNext()) it.set(freeze(it.next()));
+            return Collections.unmodifiableList(l);
+        }
+        return node;
+    }
+
     private static Object convertText(String key, String value, Class<?> targetType) {
         if (targetType == String.class) return value;
         if (targetType == Duration.class) return parseDuration(key, value);
@@ -119,7 +276,7 @@ public final class ParamTypeConverter {
             return convertEnumValueRaw(key, value, enumType);
         }
 
-        throw new ParamTypeMismatchException(key, "TEXT", value);
+        return convertRegistered(key, value, targetType, "TEXT");
     }
 
     private static Object convertNumber(String key, String value, Class<?> targetType) {
@@ -134,7 +291,34 @@ public final class ParamTypeConverter {
             if (targetType == BigDecimal.class) return new BigDecimal(v);
         } catch (RuntimeException ignore) {}
 
-        throw new ParamTypeMismatchException(key, "NUMBER", value);
+        return convertRegistered(key, value, targetType, "NUMBER");
+    }
+
+    /**
+     * Falls back to {@link ConverterRegistry} for target types not handled
+     * above; {@code dataType} names the mismatch when none is registered.
+     * See {@link ValueConverter} for how converter exceptions are reported.
+     */
+    private static Object convertRegistered(String key, String value, Class<?> targetType, String dataType) {
+        ValueConverter<?> converter = ConverterRegistry.find(targetType);
+        if (converter == null) throw new ParamTypeMismatchException(key, dataType, value);
+        if (value == null) return null;
+
+        String expected = targetType.getSimpleName().toUpperCase(Locale.ROOT);
+        Object converted;
+        try {
+            converted = converter.convert(value);
+        } catch (IOException e) {
+            // Not a property of the value: report it without a mismatch, so it is not remembered.
+            throw new UncheckedIOException("Could not convert '" + key + "' to " + expected, e);
+        } catch (RuntimeException e) {
+            if (!(e instanceof IllegalArgumentException) && !(e instanceof DateTimeException)) throw e;
+            throw new ParamTypeMismatchException(key, expected, value, e);
+        } catch (Exception e) {
+            throw new ParamTypeMismatchException(key, expected, value, e);
+        }
+        if (converted == null) throw new ParamTypeMismatchException(key, expected, value);
+        return converted;
     }
 
     private static Object convertBoolean(String key, String value, Class<?> targetType) {
@@ -153,33 +337,9 @@ public final class ParamTypeConverter {
     private static Duration parseDuration(String key, String raw) {
         if (raw == null) return null;
 
-        String s = raw.trim();
-        if (s.isEmpty()) return Duration.ZERO;
-
-        try {
-            return Duration.parse(s);
-        } catch (Exception ignore) {}
-
-        Matcher m = SIMPLE_DURATION.matcher(s);
-        if (m.matches()) {
-            long n = Long.parseLong(m.group(1));
-            String u = m.group(2).toLowerCase(Locale.ROOT);
-
-            return switch (u) {
-                case "ms" -> Duration.ofMillis(n);
-                case "s" -> Duration.ofSeconds(n);
-                case "m" -> Duration.ofMinutes(n);
-                case "h" -> Duration.ofHours(n);
-                case "d" -> Duration.ofDays(n);
-                default -> throw new ParamTypeMismatchException(key, "DURATION", raw);
-            };
-        }
-
-        try {
-            return Duration.ofMillis(Long.parseLong(s));
-        } catch (Exception ignore) {}
-
-        throw new ParamTypeMismatchException(key, "DURATION", raw);
+        Duration d = DurationParser.parse(raw);
+        if (d == null) throw new ParamTypeMismatchException(key, "DURATION", raw);
+        return d;
     }
 
     private static Object readJson(String key, String json, Class<?> targetType) {
@@ -192,8 +352,7 @@ public final class ParamTypeConverter {
 
     private static <T> List<T> readJsonList(String key, String json, Class<T> elementType) {
         try {
-            JavaType type = MAPPER.getTypeFactory().constructCollectionType(List.class, elementType);
-            return MAPPER.readValue(json, type);
+            return MAPPER.readValue(json, LIST_TYPES.get(elementType));
         } catch (Exception e) {
             throw new ParamTypeMismatchException(key, "JSON[]", json);
         }
@@ -202,30 +361,16 @@ public final class ParamTypeConverter {
     private static <E extends Enum<E>> E convertEnumValue(String key, String raw, Class<E> enumType) {
         if (raw == null) return null;
 
-        String value = raw.trim();
-        try {
-            return Enum.valueOf(enumType, value);
-        } catch (Exception ignore) {
-            for (E c : enumType.getEnumConstants()) {
-                if (c.name().equalsIgnoreCase(value)) return c;
-            }
-            throw new ParamTypeMismatchException(key, "ENUM", raw);
-        }
+        E found = EnumLookup.find(enumType, raw);
+        if (found == null) throw new ParamTypeMismatchException(key, "ENUM", raw);
+        return found;
     }
 
     private static Enum<?> convertEnumValueRaw(String key, String raw, Class<? extends Enum<?>> enumType) {
         if (raw == null) return null;
 
-        String value = raw.trim();
-        try {
-            @SuppressWarnings({"rawtypes", "unchecked"})
-            Enum<?> e = Enum.valueOf((Class) enumType, value);
-            return e;
-        } catch (Exception ignore) {
-            for (Enum<?> c : enumType.getEnumConstants()) {
-                if (c.name().equalsIgnoreCase(value)) return c;
-            }
-            throw new ParamTypeMismatchException(key, "ENUM", raw);
-        }
+        Enum<?> found = EnumLookup.find(enumType, raw);
+        if (found == null) throw new ParamTypeMismatchException(key, "ENUM", raw);
+        return found;
     }
 }
@@ -0,0 +1,16 @@
+package com.example.systemparam.converter;
+
+/**
+ * Turns a raw param value into {@code T}. Signal a value it cannot read with
+ * an {@link IllegalArgumentException}, a {@link java.time.DateTimeException}
+ * or a checked exception: callers get a {@code ParamTypeMismatchException}
+ * with it as the cause, remembered until the parameter is written again.
+ * An {@link java.io.IOException} is not the value's fault and surfaces as an
+ * {@link java.io.UncheckedIOException} that is not remembered; other runtime
+ * exceptions propagate unchanged.
+ */
+@FunctionalInterface
+public interface ValueConverter<T> {
+
+    T convert(String raw) throws Exception;
+}
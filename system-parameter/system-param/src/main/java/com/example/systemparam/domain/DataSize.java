@@ -0,0 +1,102 @@
+package com.example.systemparam.domain;
+
+import java.util.Locale;
+
+/**
+ * A number of bytes, written in params as {@code 512}, {@code 64KB},
+ * {@code 64MB}, {@code 2GB} or {@code 1TB}. Units are binary (1KB = 1024B)
+ * and case-insensitive; a bare number is bytes.
+ */
+public final class DataSize implements Comparable<DataSize> {
+
+    private static final long KB = 1024L;
+    private static final long MB = KB * 1024;
+    private static final long GB = MB * 1024;
+    private static final long TB = GB * 1024;
+
+    private final long bytes;
+
+    private DataSize(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public static DataSize ofBytes(long bytes) {
+        return new DataSize(bytes);
+    }
+
+    public static DataSize ofKilobytes(long kilobytes) {
+        return new DataSize(Math.multiplyExact(kilobytes, KB));
+    }
+
+    public static DataSize ofMegabytes(long megabytes) {
+        return new DataSize(Math.multiplyExact(megabytes, MB));
+    }
+
+    public static DataSize ofGigabytes(long gigabytes) {
+        return new DataSize(Math.multiplyExact(gigabytes, GB));
+    }
+
+    public static DataSize parse(String text) {
+        if (text == null) throw new IllegalArgumentException("data size is required");
+
+        String s = text.trim();
+        int end = 0;
+        if (end < s.length() && (s.charAt(end) == '-' || s.charAt(end) == '+')) end++;
+        while (end < s.length() && Character.isDigit(s.charAt(end))) end++;
+        if (end == 0 || !Character.isDigit(s.charAt(end - 1))) throw invalid(text);
+
+        long multiplier = switch (s.substring(end).trim().toUpperCase(Locale.ROOT)) {
+            case "", "B" -> 1L;
+            case "KB" -> KB;
+            case "MB" -> MB;
+            case "GB" -> GB;
+            case "TB" -> TB;
+            default -> throw invalid(text);
+        };
+        try {
+            return new DataSize(Math.multiplyExact(Long.parseLong(s, 0, end, 10), multiplier));
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw invalid(text);
+        }
+    }
+
+    public long toBytes() {
+        return bytes;
+    }
+
+    public long toKilobytes() {
+        return bytes / KB;
+    }
+
+    public long toMegabytes() {
+        return bytes / MB;
+    }
+
+    public long toGigabytes() {
+        return bytes / GB;
+    }
+
+    @Override
+    public int compareTo(DataSize other) {
+        return Long.compare(bytes, other.bytes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof DataSize other && other.bytes == bytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return bytes + "B";
+    }
+
+    private static IllegalArgumentException invalid(String text) {
+        return new IllegalArgumentException("Invalid data size: " + text);
+    }
+}
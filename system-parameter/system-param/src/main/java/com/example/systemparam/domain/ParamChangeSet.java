@@ -0,0 +1,24 @@
+package com.example.systemparam.domain;
+
+import java.util.List;
+
+/**
+ * Params and tags written after a given revision, together with the
+ * revision they bring the reader up to. Pass {@link #revision()} to the
+ * next {@code findChangedSince} call to continue from here.
+ */
+public record ParamChangeSet(long revision, List<SystemParamDto> params, List<TagGroupDto> tags) {
+
+    public ParamChangeSet {
+        params = params == null ? List.of() : List.copyOf(params);
+        tags = tags == null ? List.of() : List.copyOf(tags);
+    }
+
+    public static ParamChangeSet empty(long revision) {
+        return new ParamChangeSet(revision, List.of(), List.of());
+    }
+
+    public boolean isEmpty() {
+        return params.isEmpty() && tags.isEmpty();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.systemparam.domain;
+
+public record ParamDefinition(
+        String key,
+        Object value,
+        String description,
+        ParamDataType type,
+        String tagCode,
+        Integer displayPriority
+) {
+}
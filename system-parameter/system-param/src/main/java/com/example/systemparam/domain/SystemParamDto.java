@@ -7,12 +7,14 @@ public class SystemParamDto {
     private ParamDataType type;
     private String tagCode;
     private Integer displayPriority;
+    private boolean frozen;
 
     public String getKey() {
         return key;
     }
 
     public void setKey(String key) {
+        checkMutable();
         this.key = key;
     }
 
@@ -21,6 +23,7 @@ public class SystemParamDto {
     }
 
     public void setValue(String value) {
+        checkMutable();
         this.value = value;
     }
 
@@ -29,6 +32,7 @@ public class SystemParamDto {
     }
 
     public void setDescription(String description) {
+        checkMutable();
         this.description = description;
     }
 
@@ -37,6 +41,7 @@ public class SystemParamDto {
     }
 
     public void setType(ParamDataType type) {
+        checkMutable();
         this.type = type;
     }
 
@@ -45,6 +50,7 @@ public class SystemParamDto {
     }
 
     public void setTagCode(String tagCode) {
+        checkMutable();
         this.tagCode = tagCode;
     }
 
@@ -53,7 +59,27 @@ public class SystemParamDto {
     }
 
     public void setDisplayPriority(Integer displayPriority) {
+        checkMutable();
         this.displayPriority = displayPriority;
     }
 
+    public SystemParamDto copy() {
+        SystemParamDto c = new SystemParamDto();
+        c.key = key;
+        c.value = value;
+        c.description = description;
+        c.type = type;
+        c.tagCode = tagCode;
+        c.displayPriority = displayPriority;
+        return c;
+    }
+
+    public SystemParamDto freeze() {
+        this.frozen = true;
+        return this;
+    }
+
+    private void checkMutable() {
+        if (frozen) throw new UnsupportedOperationException("SystemParamDto is read-only: " + key);
+    }
 }
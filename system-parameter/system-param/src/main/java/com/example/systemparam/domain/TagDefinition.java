@@ -0,0 +1,9 @@
+package com.example.systemparam.domain;
+
+public record TagDefinition(
+        String code,
+        String name,
+        String description,
+        Integer priority
+) {
+}
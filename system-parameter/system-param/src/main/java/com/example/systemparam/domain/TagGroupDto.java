@@ -1,5 +1,6 @@
 package com.example.systemparam.domain;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class TagGroupDto {
@@ -48,4 +49,14 @@ public class TagGroupDto {
     public void setParams(List<SystemParamDto> params) {
         this.params = params;
     }
+
+    public TagGroupDto copy() {
+        TagGroupDto c = new TagGroupDto();
+        c.tagCode = tagCode;
+        c.tagName = tagName;
+        c.description = description;
+        c.priority = priority;
+        c.params = params == null ? null : new ArrayList<>(params);
+        return c;
+    }
 }
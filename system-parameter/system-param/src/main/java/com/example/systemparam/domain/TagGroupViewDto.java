@@ -14,6 +14,21 @@ public class TagGroupViewDto {
 
     private List<SystemParamDto> params = new ArrayList<>();
 
+    /**
+     * View over a list that is already sorted and shared between callers.
+     * The list is used as-is, so it must be unmodifiable.
+     */
+    public static TagGroupViewDto readOnly(
+            String tagCode, String tagName, String description, Integer priority, List<SystemParamDto> params) {
+        TagGroupViewDto view = new TagGroupViewDto();
+        view.tagCode = tagCode;
+        view.tagName = tagName;
+        view.description = description;
+        view.priority = priority;
+        view.params = params == null ? Collections.emptyList() : params;
+        return view;
+    }
+
     public String getTagCode() { return tagCode; }
     public void setTagCode(String tagCode) { this.tagCode = tagCode; }
 
@@ -4,11 +4,24 @@ public class ParamNotFoundException extends RuntimeException {
     private final String key;
 
     public ParamNotFoundException(String key) {
-        super("Parameter not found: " + key);
+        this(key, true);
+    }
+
+    /**
+     * @param writableStackTrace {@code false} skips filling in the stack trace,
+     *                           for instances that only carry the key around
+     */
+    public ParamNotFoundException(String key, boolean writableStackTrace) {
+        super(null, null, true, writableStackTrace);
         this.key = key;
     }
 
     public String getKey() {
         return key;
     }
+
+    @Override
+    public String getMessage() {
+        return "Parameter not found: " + key;
+    }
 }
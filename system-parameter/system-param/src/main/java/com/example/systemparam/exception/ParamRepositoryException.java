@@ -0,0 +1,8 @@
+package com.example.systemparam.exception;
+
+public class ParamRepositoryException extends RuntimeException {
+
+    public ParamRepositoryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -8,13 +8,37 @@ public class ParamTypeMismatchException extends RuntimeException {
     private final String expected;
     private final String actualValue;
     private final int maxLength;
+    private transient String message;
 
     public ParamTypeMismatchException(String key, String expected, String actualValue) {
         this(key, expected, actualValue, DEFAULT_MAX_VALUE_LENGTH);
     }
 
     public ParamTypeMismatchException(String key, String expected, String actualValue, int maxLength) {
-        super(buildMessage(key, expected, actualValue, maxLength));
+        this(key, expected, actualValue, maxLength, true);
+    }
+
+    public ParamTypeMismatchException(String key, String expected, String actualValue, Throwable cause) {
+        this(key, expected, actualValue, DEFAULT_MAX_VALUE_LENGTH, true, cause);
+    }
+
+    /**
+     * The message is only built when {@link #getMessage()} is called.
+     *
+     * @param writableStackTrace {@code false} skips filling in the stack trace,
+     *                           for instances that are kept or compared rather than thrown
+     */
+    public ParamTypeMismatchException(String key, String expected, String actualValue, int maxLength,
+                                      boolean writableStackTrace) {
+        this(key, expected, actualValue, maxLength, writableStackTrace, null);
+    }
+
+    /**
+     * @param cause the exception the conversion failed with, if any
+     */
+    public ParamTypeMismatchException(String key, String expected, String actualValue, int maxLength,
+                                      boolean writableStackTrace, Throwable cause) {
+        super(null, cause, true, writableStackTrace);
         this.key = key;
         this.expected = expected;
         this.actualValue = actualValue;
@@ -37,6 +61,16 @@ public class ParamTypeMismatchException extends RuntimeException {
         return maxLength;
     }
 
+    @Override
+    public String getMessage() {
+        String m = message;
+        if (m == null) {
+            m = buildMessage(key, expected, actualValue, maxLength);
+            message = m;
+        }
+        return m;
+    }
+
     private static String buildMessage(String key, String expected, String actualValue, int maxLength) {
         String safeActual = actualValue == null ? "null" : actualValue;
         if (maxLength > 0 && safeActual.length() > maxLength) {
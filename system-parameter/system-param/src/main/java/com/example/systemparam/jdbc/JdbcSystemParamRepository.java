@@ -0,0 +1,508 @@
+package com.example.systemparam.jdbc;
+
+import com.example.systemparam.domain.ParamChangeSet;
+import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.domain.TagGroupDto;
+import com.example.systemparam.exception.ParamRepositoryException;
+import com.example.systemparam.port.SystemParamRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@link SystemParamRepository} over the tables in {@code docker/<database>/init/01_schema.sql}.
+ * Saves are single-statement upserts in the dialect detected from the
+ * connection metadata. Each save transaction takes a new revision from
+ * {@code system_param_revision} and stamps it on the rows it writes, so
+ * {@link #findChangedSince(long)} is a range scan. Use
+ * {@link #create(String, String, String)} to get a HikariCP pool with the
+ * driver's prepared statement cache switched on.
+ */
+public final class JdbcSystemParamRepository implements SystemParamRepository, AutoCloseable {
+
+    // SystemParams files blank tags under this code; the schema models that as a NULL tag_code.
+    private static final String UNGROUPED = "UNGROUPED";
+
+    private static final int DEFAULT_TAG_PRIORITY = 999;
+
+    // Well below the SQL Server limit of 2100 bind parameters per statement.
+    static final int MAX_IN_LIST = 512;
+    static final int BATCH_SIZE = 500;
+
+    private static final String PARAM_COLUMNS =
+            "param_key, param_value, description, data_type, tag_code, display_order";
+
+    private static final String SELECT_PARAM_BY_KEY =
+            "SELECT " + PARAM_COLUMNS + " FROM system_param WHERE param_key = ?";
+    private static final String SELECT_ALL_PARAMS =
+            "SELECT " + PARAM_COLUMNS + " FROM system_param";
+    private static final String SELECT_ALL_TAGS =
+            "SELECT tag_code, tag_name, tag_description, tag_priority FROM system_param_tag";
+    private static final String SELECT_PARAMS_CHANGED =
+            SELECT_ALL_PARAMS + " WHERE revision > ? AND revision <= ?";
+    private static final String SELECT_TAGS_CHANGED =
+            SELECT_ALL_TAGS + " WHERE revision > ? AND revision <= ?";
+
+    private final DataSource dataSource;
+    private final boolean ownsDataSource;
+    private volatile SqlDialect dialect;
+
+    public JdbcSystemParamRepository(DataSource dataSource) {
+        this(dataSource, null, false);
+    }
+
+    public JdbcSystemParamRepository(DataSource dataSource, SqlDialect dialect) {
+        this(dataSource, dialect, false);
+    }
+
+    private JdbcSystemParamRepository(DataSource dataSource, SqlDialect dialect, boolean ownsDataSource) {
+        if (dataSource == null) throw new IllegalArgumentException("dataSource is required");
+        this.dataSource = dataSource;
+        this.dialect = dialect;
+        this.ownsDataSource = ownsDataSource;
+    }
+
+    public static JdbcSystemParamRepository create(String jdbcUrl, String username, String password) {
+        if (jdbcUrl == null || jdbcUrl.isBlank()) throw new IllegalArgumentException("jdbcUrl is required");
+
+        SqlDialect dialect = SqlDialect.fromJdbcUrl(jdbcUrl);
+
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("system-param");
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(username);
+        config.setPassword(password);
+
+        switch (dialect) {
+            case MYSQL -> {
+                config.addDataSourceProperty("cachePrepStmts", "true");
+                config.addDataSourceProperty("prepStmtCacheSize", "250");
+                config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+                config.addDataSourceProperty("useServerPrepStmts", "true");
+                config.addDataSourceProperty("rewriteBatchedStatements", "true");
+            }
+            case POSTGRESQL -> config.addDataSourceProperty("prepareThreshold", "1");
+            case SQLSERVER -> {
+                config.addDataSourceProperty("disableStatementPooling", "false");
+                config.addDataSourceProperty("statementPoolingCacheSize", "250");
+            }
+            default -> {
+            }
+        }
+
+        HikariDataSource ds = new HikariDataSource(config);
+        return new JdbcSystemParamRepository(ds, dialect == SqlDialect.GENERIC ? null : dialect, true);
+    }
+
+    @Override
+    public SystemParamDto findByKey(String key) {
+        if (key == null) return null;
+
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement ps = c.prepareStatement(SELECT_PARAM_BY_KEY)) {
+            ps.setString(1, key);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? readParam(rs) : null;
+            }
+        } catch (SQLException e) {
+            throw new ParamRepositoryException("findByKey failed: " + key, e);
+        }
+    }
+
+    @Override
+    public List<SystemParamDto> findByKeys(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) return List.of();
+
+        ArrayList<String> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        distinct.remove(null);
+        if (distinct.isEmpty()) return List.of();
+
+        ArrayList<SystemParamDto> out = new ArrayList<>(distinct.size());
+        try (Connection c = dataSource.getConnection()) {
+            for (int from = 0; from < distinct.size(); from += MAX_IN_LIST) {
+                List<String> chunk = distinct.subList(from, Math.min(distinct.size(), from + MAX_IN_LIST));
+                int slots = inListSize(chunk.size());
+
+                try (PreparedStatement ps = c.prepareStatement(selectParamsByKeysSql(slots))) {
+                    for (int i = 0; i < slots; i++) {
+                        ps.setString(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+                    }
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) out.add(readParam(rs));
+                    }
+                }
+            }
+            return out;
+        } catch (SQLException e) {
+            throw new ParamRepositoryException("findByKeys failed", e);
+        }
+    }
+
+    @Override
+    public List<SystemParamDto> findAllParams() {
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement ps = c.prepareStatement(SELECT_ALL_PARAMS);
+             ResultSet rs = ps.executeQuery()) {
+            ArrayList<SystemParamDto> out = new ArrayList<>();
+            while (rs.next()) out.add(readParam(rs));
+            return out;
+        } catch (SQLException e) {
+            throw new ParamRepositoryException("findAllParams failed", e);
+        }
+    }
+
+    @Override
+    public List<TagGroupDto> findAllTags() {
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement ps = c.prepareStatement(SELECT_ALL_TAGS);
+             ResultSet rs = ps.executeQuery()) {
+            ArrayList<TagGroupDto> out = new ArrayList<>();
+            while (rs.next()) out.add(readTag(rs));
+            return out;
+        } catch (SQLException e) {
+            throw new ParamRepositoryException("findAllTags failed", e);
+        }
+    }
+
+    @Override
+    public void save(SystemParamDto param) {
+        if (param == null || param.getKey() == null) throw new IllegalArgumentException("param key required");
+        writeParams(List.of(param), "save failed: " + param.getKey());
+    }
+
+    @Override
+    public void save(TagGroupDto tag) {
+        if (tag == null || tag.getTagCode() == null) throw new IllegalArgumentException("tagCode required");
+        writeTags(List.of(tag), "save failed: " + tag.getTagCode());
+    }
+
+    @Override
+    public void saveParams(Collection<SystemParamDto> params) {
+        if (params == null || params.isEmpty()) return;
+        for (SystemParamDto p : params) {
+            if (p == null || p.getKey() == null) throw new IllegalArgumentException("param key required");
+        }
+        writeParams(params, "saveParams failed");
+    }
+
+    @Override
+    public void saveTags(Collection<TagGroupDto> tags) {
+        if (tags == null || tags.isEmpty()) return;
+        for (TagGroupDto t : tags) {
+            if (t == null || t.getTagCode() == null) throw new IllegalArgumentException("tagCode required");
+        }
+        writeTags(tags, "saveTags failed");
+    }
+
+    @Override
+    public long currentRevision() {
+        try (Connection c = dataSource.getConnection()) {
+            return readRevision(c);
+        } catch (SQLException e) {
+            throw new ParamRepositoryException("currentRevision failed", e);
+        }
+    }
+
+    /**
+     * Reads the rows stamped after {@code revision} with two range scans on
+     * the revision indexes. The counter is read first and bounds both scans,
+     * so a write that commits meanwhile is picked up by the next call.
+     */
+    @Override
+    public ParamChangeSet findChangedSince(long revision) {
+        try (Connection c = dataSource.getConnection()) {
+            long high = readRevision(c);
+            if (high <= revision) return ParamChangeSet.empty(high);
+
+            ArrayList<SystemParamDto> params = new ArrayList<>();
+            try (PreparedStatement ps = c.prepareStatement(SELECT_PARAMS_CHANGED)) {
+                ps.setLong(1, revision);
+                ps.setLong(2, high);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) params.add(readParam(rs));
+                }
+            }
+
+            ArrayList<TagGroupDto> tags = new ArrayList<>();
+            try (PreparedStatement ps = c.prepareStatement(SELECT_TAGS_CHANGED)) {
+                ps.setLong(1, revision);
+                ps.setLong(2, high);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) tags.add(readTag(rs));
+                }
+            }
+            return new ParamChangeSet(high, params, tags);
+        } catch (SQLException e) {
+            throw new ParamRepositoryException("findChangedSince failed: " + revision, e);
+        }
+    }
+
+    public SqlDialect dialect() {
+        SqlDialect d = dialect;
+        if (d != null) return d;
+
+        try (Connection c = dataSource.getConnection()) {
+            return dialect(c);
+        } catch (SQLException e) {
+            throw new ParamRepositoryException("dialect detection failed", e);
+        }
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public void close() {
+        if (ownsDataSource && dataSource instanceof HikariDataSource hikari) hikari.close();
+    }
+
+    /**
+     * Rounds an IN-list up to the next power of two so that only a handful of
+     * distinct statements reach the prepared statement cache. Unused slots are
+     * bound to the last key again.
+     */
+    static int inListSize(int keys) {
+        if (keys <= 1) return 1;
+        return Math.min(MAX_IN_LIST, Integer.highestOneBit(keys - 1) << 1);
+    }
+
+    static String selectParamsByKeysSql(int slots) {
+        StringBuilder sb = new StringBuilder(SELECT_ALL_PARAMS.length() + 32 + slots * 2);
+        sb.append(SELECT_ALL_PARAMS).append(" WHERE param_key IN (");
+        for (int i = 0; i < slots; i++) {
+            if (i > 0) sb.append(',');
+            sb.append('?');
+        }
+        return sb.append(')').toString();
+    }
+
+    private SqlDialect dialect(Connection c) throws SQLException {
+        SqlDialect d = dialect;
+        if (d == null) {
+            d = SqlDialect.fromProductName(c.getMetaData().getDatabaseProductName());
+            dialect = d;
+        }
+        return d;
+    }
+
+    private interface SqlWork {
+        void run() throws SQLException;
+    }
+
+    private static void inTransaction(Connection c, SqlWork work) throws SQLException {
+        boolean autoCommit = c.getAutoCommit();
+        if (autoCommit) c.setAutoCommit(false);
+        try {
+            work.run();
+            c.commit();
+        } catch (SQLException | RuntimeException e) {
+            try {
+                c.rollback();
+            } catch (SQLException rollbackFailure) {
+                e.addSuppressed(rollbackFailure);
+            }
+            throw e;
+        } finally {
+            if (autoCommit) c.setAutoCommit(true);
+        }
+    }
+
+    private void writeParams(Collection<SystemParamDto> params, String failure) {
+        try (Connection c = dataSource.getConnection()) {
+            SqlDialect d = dialect(c);
+            inTransaction(c, () -> {
+                long revision = nextRevision(c);
+                if (d.supportsUpsert()) {
+                    try (PreparedStatement ps = c.prepareStatement(d.upsertParamSql())) {
+                        int pending = 0;
+                        for (SystemParamDto p : params) {
+                            bindParamInsert(ps, p, revision);
+                            ps.addBatch();
+                            if (++pending == BATCH_SIZE) {
+                                ps.executeBatch();
+                                pending = 0;
+                            }
+                        }
+                        if (pending > 0) ps.executeBatch();
+                    }
+                } else {
+                    for (SystemParamDto p : params) updateOrInsertParam(c, p, revision);
+                }
+            });
+        } catch (SQLException e) {
+            throw new ParamRepositoryException(failure, e);
+        }
+    }
+
+    private void writeTags(Collection<TagGroupDto> tags, String failure) {
+        try (Connection c = dataSource.getConnection()) {
+            SqlDialect d = dialect(c);
+            inTransaction(c, () -> {
+                long revision = nextRevision(c);
+                if (d.supportsUpsert()) {
+                    try (PreparedStatement ps = c.prepareStatement(d.upsertTagSql())) {
+                        int pending = 0;
+                        for (TagGroupDto t : tags) {
+                            bindTagInsert(ps, t, revision);
+                            ps.addBatch();
+                            if (++pending == BATCH_SIZE) {
+                                ps.executeBatch();
+                                pending = 0;
+                            }
+                        }
+                        if (pending > 0) ps.executeBatch();
+                    }
+                } else {
+                    for (TagGroupDto t : tags) updateOrInsertTag(c, t, revision);
+                }
+            });
+        } catch (SQLException e) {
+            throw new ParamRepositoryException(failure, e);
+        }
+    }
+
+    /**
+     * Takes the next revision for the current transaction. The counter row
+     * stays locked until commit, which keeps revisions committing in order.
+     */
+    private static long nextRevision(Connection c) throws SQLException {
+        try (PreparedStatement bump = c.prepareStatement(SqlDialect.BUMP_REVISION)) {
+            if (bump.executeUpdate() == 0) {
+                try (PreparedStatement init = c.prepareStatement(SqlDialect.INIT_REVISION)) {
+                    init.executeUpdate();
+                }
+            }
+        }
+        return readRevision(c);
+    }
+
+    private static long readRevision(Connection c) throws SQLException {
+        try (PreparedStatement ps = c.prepareStatement(SqlDialect.SELECT_REVISION);
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0L;
+        }
+    }
+
+    private static void updateOrInsertParam(Connection c, SystemParamDto param, long revision)
+            throws SQLException {
+        try (PreparedStatement update = c.prepareStatement(SqlDialect.UPDATE_PARAM)) {
+            update.setString(1, param.getValue());
+            update.setString(2, param.getDescription());
+            setDataType(update, 3, param.getType());
+            setTagCode(update, 4, param.getTagCode());
+            setDisplayOrder(update, 5, param.getDisplayPriority());
+            update.setLong(6, revision);
+            update.setString(7, param.getKey());
+            if (update.executeUpdate() > 0) return;
+        }
+        try (PreparedStatement insert = c.prepareStatement(SqlDialect.INSERT_PARAM)) {
+            bindParamInsert(insert, param, revision);
+            insert.executeUpdate();
+        }
+    }
+
+    private static void updateOrInsertTag(Connection c, TagGroupDto tag, long revision) throws SQLException {
+        try (PreparedStatement update = c.prepareStatement(SqlDialect.UPDATE_TAG)) {
+            update.setString(1, tagName(tag));
+            update.setString(2, tag.getDescription());
+            update.setInt(3, tagPriority(tag));
+            update.setLong(4, revision);
+            update.setString(5, tag.getTagCode());
+            if (update.executeUpdate() > 0) return;
+        }
+        try (PreparedStatement insert = c.prepareStatement(SqlDialect.INSERT_TAG)) {
+            bindTagInsert(insert, tag, revision);
+            insert.executeUpdate();
+        }
+    }
+
+    static void bindParamInsert(PreparedStatement ps, SystemParamDto param, long revision) throws SQLException {
+        ps.setString(1, param.getKey());
+        ps.setString(2, param.getValue());
+        ps.setString(3, param.getDescription());
+        setDataType(ps, 4, param.getType());
+        setTagCode(ps, 5, param.getTagCode());
+        setDisplayOrder(ps, 6, param.getDisplayPriority());
+        ps.setLong(7, revision);
+    }
+
+    static void bindTagInsert(PreparedStatement ps, TagGroupDto tag, long revision) throws SQLException {
+        ps.setString(1, tag.getTagCode());
+        ps.setString(2, tagName(tag));
+        ps.setString(3, tag.getDescription());
+        ps.setInt(4, tagPriority(tag));
+        ps.setLong(5, revision);
+    }
+
+    static SystemParamDto readParam(ResultSet rs) throws SQLException {
+        SystemParamDto p = new SystemParamDto();
+        p.setKey(rs.getString("param_key"));
+        p.setValue(rs.getString("param_value"));
+        p.setDescription(rs.getString("description"));
+        p.setType(parseDataType(rs.getString("data_type")));
+        p.setTagCode(rs.getString("tag_code"));
+        int order = rs.getInt("display_order");
+        p.setDisplayPriority(rs.wasNull() ? null : order);
+        return p;
+    }
+
+    static TagGroupDto readTag(ResultSet rs) throws SQLException {
+        TagGroupDto t = new TagGroupDto();
+        t.setTagCode(rs.getString("tag_code"));
+        t.setTagName(rs.getString("tag_name"));
+        t.setDescription(rs.getString("tag_description"));
+        int priority = rs.getInt("tag_priority");
+        t.setPriority(rs.wasNull() ? null : priority);
+        return t;
+    }
+
+    private static void setDataType(PreparedStatement ps, int index, ParamDataType type) throws SQLException {
+        ps.setString(index, (type == null ? ParamDataType.TEXT : type).name());
+    }
+
+    private static void setTagCode(PreparedStatement ps, int index, String tagCode) throws SQLException {
+        if (tagCode == null || tagCode.isBlank() || UNGROUPED.equals(tagCode)) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, tagCode);
+        }
+    }
+
+    private static void setDisplayOrder(PreparedStatement ps, int index, Integer order) throws SQLException {
+        if (order == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, order);
+        }
+    }
+
+    private static String tagName(TagGroupDto tag) {
+        return tag.getTagName() == null ? tag.getTagCode() : tag.getTagName();
+    }
+
+    private static int tagPriority(TagGroupDto tag) {
+        return tag.getPriority() == null ? DEFAULT_TAG_PRIORITY : tag.getPriority();
+    }
+
+    private static ParamDataType parseDataType(String raw) {
+        if (raw == null || raw.isBlank()) return null;
+        try {
+            return ParamDataType.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unknown data_type in system_param: " + raw, e);
+        }
+    }
+}
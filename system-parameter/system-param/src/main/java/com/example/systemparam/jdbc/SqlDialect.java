@@ -0,0 +1,129 @@
+package com.example.systemparam.jdbc;
+
+import java.util.Locale;
+
+/**
+ * SQL that differs between the supported databases. Only the upserts vary;
+ * {@link #GENERIC} falls back to update-then-insert for anything unknown.
+ */
+public enum SqlDialect {
+
+    MYSQL(
+            "INSERT INTO system_param (param_key, param_value, description, data_type, tag_code, display_order, revision) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE param_value = VALUES(param_value), description = VALUES(description), "
+                    + "data_type = VALUES(data_type), tag_code = VALUES(tag_code), display_order = VALUES(display_order), "
+                    + "revision = VALUES(revision)",
+            "INSERT INTO system_param_tag (tag_code, tag_name, tag_description, tag_priority, revision) "
+                    + "VALUES (?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE tag_name = VALUES(tag_name), tag_description = VALUES(tag_description), "
+                    + "tag_priority = VALUES(tag_priority), revision = VALUES(revision)"
+    ),
+
+    POSTGRESQL(
+            "INSERT INTO system_param (param_key, param_value, description, data_type, tag_code, display_order, revision) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+                    + "ON CONFLICT (param_key) DO UPDATE SET param_value = EXCLUDED.param_value, "
+                    + "description = EXCLUDED.description, data_type = EXCLUDED.data_type, "
+                    + "tag_code = EXCLUDED.tag_code, display_order = EXCLUDED.display_order, "
+                    + "revision = EXCLUDED.revision, updated_at = CURRENT_TIMESTAMP",
+            "INSERT INTO system_param_tag (tag_code, tag_name, tag_description, tag_priority, revision) "
+                    + "VALUES (?, ?, ?, ?, ?) "
+                    + "ON CONFLICT (tag_code) DO UPDATE SET tag_name = EXCLUDED.tag_name, "
+                    + "tag_description = EXCLUDED.tag_description, tag_priority = EXCLUDED.tag_priority, "
+                    + "revision = EXCLUDED.revision, updated_at = CURRENT_TIMESTAMP"
+    ),
+
+    SQLSERVER(
+            "MERGE INTO system_param WITH (HOLDLOCK) AS t "
+                    + "USING (VALUES (?, ?, ?, ?, ?, ?, ?)) "
+                    + "AS s (param_key, param_value, description, data_type, tag_code, display_order, revision) "
+                    + "ON t.param_key = s.param_key "
+                    + "WHEN MATCHED THEN UPDATE SET param_value = s.param_value, description = s.description, "
+                    + "data_type = s.data_type, tag_code = s.tag_code, display_order = s.display_order, "
+                    + "revision = s.revision, updated_at = CURRENT_TIMESTAMP "
+                    + "WHEN NOT MATCHED THEN INSERT "
+                    + "(param_key, param_value, description, data_type, tag_code, display_order, revision) "
+                    + "VALUES (s.param_key, s.param_value, s.description, s.data_type, s.tag_code, s.display_order, "
+                    + "s.revision);",
+            "MERGE INTO system_param_tag WITH (HOLDLOCK) AS t "
+                    + "USING (VALUES (?, ?, ?, ?, ?)) AS s (tag_code, tag_name, tag_description, tag_priority, revision) "
+                    + "ON t.tag_code = s.tag_code "
+                    + "WHEN MATCHED THEN UPDATE SET tag_name = s.tag_name, tag_description = s.tag_description, "
+                    + "tag_priority = s.tag_priority, revision = s.revision, updated_at = CURRENT_TIMESTAMP "
+                    + "WHEN NOT MATCHED THEN INSERT (tag_code, tag_name, tag_description, tag_priority, revision) "
+                    + "VALUES (s.tag_code, s.tag_name, s.tag_description, s.tag_priority, s.revision);"
+    ),
+
+    GENERIC(null, null);
+
+    static final String UPDATE_PARAM =
+            "UPDATE system_param SET param_value = ?, description = ?, data_type = ?, tag_code = ?, display_order = ?, "
+                    + "revision = ?, updated_at = CURRENT_TIMESTAMP WHERE param_key = ?";
+    static final String INSERT_PARAM =
+            "INSERT INTO system_param (param_key, param_value, description, data_type, tag_code, display_order, revision) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    static final String UPDATE_TAG =
+            "UPDATE system_param_tag SET tag_name = ?, tag_description = ?, tag_priority = ?, "
+                    + "revision = ?, updated_at = CURRENT_TIMESTAMP WHERE tag_code = ?";
+    static final String INSERT_TAG =
+            "INSERT INTO system_param_tag (tag_code, tag_name, tag_description, tag_priority, revision) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+
+    // Change tracking is plain SQL and shared by every dialect.
+    static final String BUMP_REVISION =
+            "UPDATE system_param_revision SET revision = revision + 1 WHERE id = 1";
+    static final String INIT_REVISION =
+            "INSERT INTO system_param_revision (id, revision) VALUES (1, 1)";
+    static final String SELECT_REVISION =
+            "SELECT revision FROM system_param_revision WHERE id = 1";
+
+    private final String upsertParamSql;
+    private final String upsertTagSql;
+
+    SqlDialect(String upsertParamSql, String upsertTagSql) {
+        this.upsertParamSql = upsertParamSql;
+        this.upsertTagSql = upsertTagSql;
+    }
+
+    /**
+     * Single-statement upsert for a param row, or {@code null} when the
+     * dialect has none. Parameters are bound in column order: key, value,
+     * description, data type, tag code, display order, revision.
+     */
+    public String upsertParamSql() {
+        return upsertParamSql;
+    }
+
+    /**
+     * Single-statement upsert for a tag row, or {@code null} when the dialect
+     * has none. Parameters: code, name, description, priority, revision.
+     */
+    public String upsertTagSql() {
+        return upsertTagSql;
+    }
+
+    public boolean supportsUpsert() {
+        return upsertParamSql != null;
+    }
+
+    public static SqlDialect fromProductName(String productName) {
+        if (productName == null) return GENERIC;
+
+        String p = productName.toLowerCase(Locale.ROOT);
+        if (p.contains("mysql") || p.contains("mariadb")) return MYSQL;
+        if (p.contains("postgres")) return POSTGRESQL;
+        if (p.contains("microsoft sql server") || p.contains("sql server")) return SQLSERVER;
+        return GENERIC;
+    }
+
+    public static SqlDialect fromJdbcUrl(String jdbcUrl) {
+        if (jdbcUrl == null) return GENERIC;
+
+        String u = jdbcUrl.toLowerCase(Locale.ROOT);
+        if (u.startsWith("jdbc:mysql:") || u.startsWith("jdbc:mariadb:")) return MYSQL;
+        if (u.startsWith("jdbc:postgresql:")) return POSTGRESQL;
+        if (u.startsWith("jdbc:sqlserver:")) return SQLSERVER;
+        return GENERIC;
+    }
+}
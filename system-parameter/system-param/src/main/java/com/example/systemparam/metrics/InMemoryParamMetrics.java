@@ -0,0 +1,132 @@
+package com.example.systemparam.metrics;
+
+import com.example.systemparam.domain.ParamDataType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps every measurement in memory, for a metrics endpoint or a periodic
+ * log line to read. Recording never locks: counters are {@link LongAdder}s
+ * and latencies go to a {@link LatencyHistogram} per method or data type.
+ *
+ * <p>Per-key counts stop taking new keys after {@link #MAX_TRACKED_KEYS};
+ * the totals keep counting.
+ */
+public final class InMemoryParamMetrics implements ParamMetrics {
+
+    // Bounds memory when callers probe arbitrary keys.
+    static final int MAX_TRACKED_KEYS = 10_000;
+
+    private final ConcurrentHashMap<String, LatencyHistogram> serviceCalls = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LatencyHistogram> repositoryCalls = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> repositoryFailures = new ConcurrentHashMap<>();
+    private final LatencyHistogram[] conversions = new LatencyHistogram[ParamDataType.values().length];
+
+    private final LongAdder mismatches = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> mismatchesByKey = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> notFoundByKey = new ConcurrentHashMap<>();
+
+    public InMemoryParamMetrics() {
+        for (int i = 0; i < conversions.length; i++) conversions[i] = new LatencyHistogram();
+    }
+
+    @Override
+    public void serviceCall(String method, long nanos) {
+        histogram(serviceCalls, method).record(nanos);
+    }
+
+    @Override
+    public void repositoryCall(String method, long nanos, boolean failed) {
+        histogram(repositoryCalls, method).record(nanos);
+        if (failed) repositoryFailures.computeIfAbsent(method, m -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void conversion(ParamDataType type, long nanos) {
+        conversions[(type == null ? ParamDataType.TEXT : type).ordinal()].record(nanos);
+    }
+
+    @Override
+    public void typeMismatch(String key) {
+        mismatches.increment();
+        countKey(mismatchesByKey, key);
+    }
+
+    @Override
+    public void notFound(String key) {
+        notFound.increment();
+        countKey(notFoundByKey, key);
+    }
+
+    /**
+     * Latency per service method name; the histograms are live.
+     */
+    public Map<String, LatencyHistogram> serviceCalls() {
+        return Collections.unmodifiableMap(serviceCalls);
+    }
+
+    /**
+     * Latency per repository method name, failed calls included.
+     */
+    public Map<String, LatencyHistogram> repositoryCalls() {
+        return Collections.unmodifiableMap(repositoryCalls);
+    }
+
+    public long repositoryFailures(String method) {
+        LongAdder failures = repositoryFailures.get(method);
+        return failures == null ? 0 : failures.sum();
+    }
+
+    /**
+     * Conversion time per data type of the converted parameter.
+     */
+    public Map<ParamDataType, LatencyHistogram> conversions() {
+        EnumMap<ParamDataType, LatencyHistogram> out = new EnumMap<>(ParamDataType.class);
+        for (ParamDataType type : ParamDataType.values()) out.put(type, conversions[type.ordinal()]);
+        return out;
+    }
+
+    public long mismatchCount() {
+        return mismatches.sum();
+    }
+
+    public long notFoundCount() {
+        return notFound.sum();
+    }
+
+    public Map<String, Long> mismatchesByKey() {
+        return counts(mismatchesByKey);
+    }
+
+    public Map<String, Long> notFoundByKey() {
+        return counts(notFoundByKey);
+    }
+
+    private static LatencyHistogram histogram(ConcurrentHashMap<String, LatencyHistogram> byName, String name) {
+        LatencyHistogram h = byName.get(name);
+        return h != null ? h : byName.computeIfAbsent(name, n -> new LatencyHistogram());
+    }
+
+    private static void countKey(ConcurrentHashMap<String, LongAdder> byKey, String key) {
+        if (key == null) return;
+
+        LongAdder count = byKey.get(key);
+        if (count == null) {
+            if (byKey.size() >= MAX_TRACKED_KEYS) return;
+            count = byKey.computeIfAbsent(key, k -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    private static Map<String, Long> counts(ConcurrentHashMap<String, LongAdder> byKey) {
+        LinkedHashMap<String, Long> out = new LinkedHashMap<>(byKey.size() * 2);
+        byKey.forEach((key, count) -> out.put(key, count.sum()));
+        return out;
+    }
+}
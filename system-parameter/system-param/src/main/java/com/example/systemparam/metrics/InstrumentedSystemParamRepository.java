@@ -0,0 +1,167 @@
+package com.example.systemparam.metrics;
+
+import com.example.systemparam.domain.ParamChangeSet;
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.domain.TagGroupDto;
+import com.example.systemparam.port.SystemParamRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reports every call to the wrapped repository, with its latency and
+ * whether it threw, to {@link ParamMetrics#repositoryCall}. Place it
+ * closest to the store (under a {@code CachingSystemParamRepository}) to
+ * count real round trips, or on top to count lookups.
+ *
+ * <p>The {@link UnsupportedOperationException} of repositories that do not
+ * track revisions is not a round trip and is not reported.
+ */
+public final class InstrumentedSystemParamRepository implements SystemParamRepository {
+
+    private final SystemParamRepository delegate;
+    private final ParamMetrics metrics;
+
+    public InstrumentedSystemParamRepository(SystemParamRepository delegate, ParamMetrics metrics) {
+        if (delegate == null) throw new IllegalArgumentException("delegate is required");
+        if (metrics == null) throw new IllegalArgumentException("metrics is required");
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    public SystemParamRepository delegate() {
+        return delegate;
+    }
+
+    @Override
+    public SystemParamDto findByKey(String key) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            SystemParamDto found = delegate.findByKey(key);
+            failed = false;
+            return found;
+        } finally {
+            metrics.repositoryCall("findByKey", System.nanoTime() - start, failed);
+        }
+    }
+
+    @Override
+    public List<SystemParamDto> findByKeys(Collection<String> keys) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            List<SystemParamDto> found = delegate.findByKeys(keys);
+            failed = false;
+            return found;
+        } finally {
+            metrics.repositoryCall("findByKeys", System.nanoTime() - start, failed);
+        }
+    }
+
+    @Override
+    public List<SystemParamDto> findAllParams() {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            List<SystemParamDto> found = delegate.findAllParams();
+            failed = false;
+            return found;
+        } finally {
+            metrics.repositoryCall("findAllParams", System.nanoTime() - start, failed);
+        }
+    }
+
+    @Override
+    public List<TagGroupDto> findAllTags() {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            List<TagGroupDto> found = delegate.findAllTags();
+            failed = false;
+            return found;
+        } finally {
+            metrics.repositoryCall("findAllTags", System.nanoTime() - start, failed);
+        }
+    }
+
+    @Override
+    public void save(SystemParamDto param) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            delegate.save(param);
+            failed = false;
+        } finally {
+            metrics.repositoryCall("saveParam", System.nanoTime() - start, failed);
+        }
+    }
+
+    @Override
+    public void save(TagGroupDto tag) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            delegate.save(tag);
+            failed = false;
+        } finally {
+            metrics.repositoryCall("saveTag", System.nanoTime() - start, failed);
+        }
+    }
+
+    @Override
+    public void saveParams(Collection<SystemParamDto> params) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            delegate.saveParams(params);
+            failed = false;
+        } finally {
+            metrics.repositoryCall("saveParams", System.nanoTime() - start, failed);
+        }
+    }
+
+    @Override
+    public void saveTags(Collection<TagGroupDto> tags) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            delegate.saveTags(tags);
+            failed = false;
+        } finally {
+            metrics.repositoryCall("saveTags", System.nanoTime() - start, failed);
+        }
+    }
+
+    @Override
+    public long currentRevision() {
+        long start = System.nanoTime();
+        long revision;
+        try {
+            revision = delegate.currentRevision();
+        } catch (UnsupportedOperationException e) {
+            throw e;
+        } catch (RuntimeException | Error e) {
+            metrics.repositoryCall("currentRevision", System.nanoTime() - start, true);
+            throw e;
+        }
+        metrics.repositoryCall("currentRevision", System.nanoTime() - start, false);
+        return revision;
+    }
+
+    @Override
+    public ParamChangeSet findChangedSince(long revision) {
+        long start = System.nanoTime();
+        ParamChangeSet changes;
+        try {
+            changes = delegate.findChangedSince(revision);
+        } catch (UnsupportedOperationException e) {
+            throw e;
+        } catch (RuntimeException | Error e) {
+            metrics.repositoryCall("findChangedSince", System.nanoTime() - start, true);
+            throw e;
+        }
+        metrics.repositoryCall("findChangedSince", System.nanoTime() - start, false);
+        return changes;
+    }
+}
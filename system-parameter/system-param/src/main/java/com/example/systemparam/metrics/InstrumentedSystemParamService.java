@@ -0,0 +1,514 @@
+package com.example.systemparam.metrics;
+
+import com.example.systemparam.collection.IntHashSet;
+import com.example.systemparam.collection.LongHashSet;
+import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.ParamDefinition;
+import com.example.systemparam.domain.TagDefinition;
+import com.example.systemparam.domain.TagGroupViewDto;
+import com.example.systemparam.service.ParamRef;
+import com.example.systemparam.service.ParamResult;
+import com.example.systemparam.service.SystemParamService;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reports the latency of every call, including ones that throw, to
+ * {@link ParamMetrics#serviceCall}. Overloads are reported under one name.
+ * Reads through a {@link ParamRef} bypass the service and are not reported.
+ */
+public final class InstrumentedSystemParamService implements SystemParamService {
+
+    private final SystemParamService delegate;
+    private final ParamMetrics metrics;
+
+    public InstrumentedSystemParamService(SystemParamService delegate, ParamMetrics metrics) {
+        if (delegate == null) throw new IllegalArgumentException("delegate is required");
+        if (metrics == null) throw new IllegalArgumentException("metrics is required");
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    public SystemParamService delegate() {
+        return delegate;
+    }
+
+    @Override
+    public String get(String key) {
+        long start = System.nanoTime();
+        try {
+            return delegate.get(key);
+        } finally {
+            metrics.serviceCall("get", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Optional<String> getOptional(String key) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getOptional(key);
+        } finally {
+            metrics.serviceCall("getOptional", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public String getOrDefault(String key, String defaultValue) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getOrDefault(key, defaultValue);
+        } finally {
+            metrics.serviceCall("getOrDefault", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Map<String, String> getAll(Collection<String> keys) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getAll(keys);
+        } finally {
+            metrics.serviceCall("getAll", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <T> T getAs(String key, Class<T> targetType) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getAs(key, targetType);
+        } finally {
+            metrics.serviceCall("getAs", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <T> T getAsOrDefault(String key, Class<T> targetType, T defaultValue) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getAsOrDefault(key, targetType, defaultValue);
+        } finally {
+            metrics.serviceCall("getAsOrDefault", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <T> ParamResult<T> getResult(String key, Class<T> targetType) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getResult(key, targetType);
+        } finally {
+            metrics.serviceCall("getResult", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <T> Map<String, T> getAllAs(Collection<String> keys, Class<T> targetType) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getAllAs(keys, targetType);
+        } finally {
+            metrics.serviceCall("getAllAs", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <T> ParamRef<T> ref(String key, Class<T> type, T defaultValue) {
+        long start = System.nanoTime();
+        try {
+            return delegate.ref(key, type, defaultValue);
+        } finally {
+            metrics.serviceCall("ref", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public int getInt(String key, int defaultValue) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getInt(key, defaultValue);
+        } finally {
+            metrics.serviceCall("getInt", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public long getLong(String key, long defaultValue) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getLong(key, defaultValue);
+        } finally {
+            metrics.serviceCall("getLong", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public double getDouble(String key, double defaultValue) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getDouble(key, defaultValue);
+        } finally {
+            metrics.serviceCall("getDouble", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(String key, boolean defaultValue) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getBoolean(key, defaultValue);
+        } finally {
+            metrics.serviceCall("getBoolean", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Duration getDuration(String key) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getDuration(key);
+        } finally {
+            metrics.serviceCall("getDuration", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Duration getDurationOrDefault(String key, Duration defaultValue) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getDurationOrDefault(key, defaultValue);
+        } finally {
+            metrics.serviceCall("getDurationOrDefault", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <E extends Enum<E>> E getEnum(String key, Class<E> enumType) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getEnum(key, enumType);
+        } finally {
+            metrics.serviceCall("getEnum", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <E extends Enum<E>> E getEnumOrDefault(String key, Class<E> enumType, E defaultValue) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getEnumOrDefault(key, enumType, defaultValue);
+        } finally {
+            metrics.serviceCall("getEnumOrDefault", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <E extends Enum<E>> ParamResult<E> getEnumResult(String key, Class<E> enumType) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getEnumResult(key, enumType);
+        } finally {
+            metrics.serviceCall("getEnumResult", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <T> List<T> getList(String key, Class<T> elementType) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getList(key, elementType);
+        } finally {
+            metrics.serviceCall("getList", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <T> List<T> getListOrDefault(String key, Class<T> elementType, List<T> defaultValue) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getListOrDefault(key, elementType, defaultValue);
+        } finally {
+            metrics.serviceCall("getListOrDefault", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <T> ParamResult<List<T>> getListResult(String key, Class<T> elementType) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getListResult(key, elementType);
+        } finally {
+            metrics.serviceCall("getListResult", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <T> T getJsonPath(String key, String path, Class<T> targetType) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getJsonPath(key, path, targetType);
+        } finally {
+            metrics.serviceCall("getJsonPath", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public LongHashSet getLongSet(String key) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getLongSet(key);
+        } finally {
+            metrics.serviceCall("getLongSet", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public IntHashSet getIntSet(String key) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getIntSet(key);
+        } finally {
+            metrics.serviceCall("getIntSet", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Set<String> getStringSet(String key) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getStringSet(key);
+        } finally {
+            metrics.serviceCall("getStringSet", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public long[] getLongArray(String key) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getLongArray(key);
+        } finally {
+            metrics.serviceCall("getLongArray", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public int[] getIntArray(String key) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getIntArray(key);
+        } finally {
+            metrics.serviceCall("getIntArray", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getMap(String key) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getMap(key);
+        } finally {
+            metrics.serviceCall("getMap", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getMapOrDefault(String key, Map<String, Object> defaultValue) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getMapOrDefault(key, defaultValue);
+        } finally {
+            metrics.serviceCall("getMapOrDefault", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public ParamResult<Map<String, Object>> getMapResult(String key) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getMapResult(key);
+        } finally {
+            metrics.serviceCall("getMapResult", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public List<Map<String, Object>> getMapList(String key) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getMapList(key);
+        } finally {
+            metrics.serviceCall("getMapList", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public List<Map<String, Object>> getMapListOrDefault(String key, List<Map<String, Object>> defaultValue) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getMapListOrDefault(key, defaultValue);
+        } finally {
+            metrics.serviceCall("getMapListOrDefault", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public ParamResult<List<Map<String, Object>>> getMapListResult(String key) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getMapListResult(key);
+        } finally {
+            metrics.serviceCall("getMapListResult", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public List<TagGroupViewDto> getAllGroupedByTag() {
+        long start = System.nanoTime();
+        try {
+            return delegate.getAllGroupedByTag();
+        } finally {
+            metrics.serviceCall("getAllGroupedByTag", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public TagGroupViewDto getByTag(String tagCode) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getByTag(tagCode);
+        } finally {
+            metrics.serviceCall("getByTag", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <R extends Record> R bindTag(String tagCode, Class<R> recordType) {
+        long start = System.nanoTime();
+        try {
+            return delegate.bindTag(tagCode, recordType);
+        } finally {
+            metrics.serviceCall("bindTag", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void set(
+            String key,
+            String value,
+            ParamDataType type,
+            String tagCode,
+            Integer displayPriority,
+            String description) {
+        long start = System.nanoTime();
+        try {
+            delegate.set(key, value, type, tagCode, displayPriority, description);
+        } finally {
+            metrics.serviceCall("set", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void set(
+            String key,
+            Object value,
+            ParamDataType type,
+            String tagCode,
+            Integer displayPriority,
+            String description) {
+        long start = System.nanoTime();
+        try {
+            delegate.set(key, value, type, tagCode, displayPriority, description);
+        } finally {
+            metrics.serviceCall("set", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void update(String key, String value) {
+        long start = System.nanoTime();
+        try {
+            delegate.update(key, value);
+        } finally {
+            metrics.serviceCall("update", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void update(String key, Object value) {
+        long start = System.nanoTime();
+        try {
+            delegate.update(key, value);
+        } finally {
+            metrics.serviceCall("update", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void ensureTag(String code, String name, String description, Integer priority) {
+        long start = System.nanoTime();
+        try {
+            delegate.ensureTag(code, name, description, priority);
+        } finally {
+            metrics.serviceCall("ensureTag", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void ensureTags(List<TagDefinition> definitions) {
+        long start = System.nanoTime();
+        try {
+            delegate.ensureTags(definitions);
+        } finally {
+            metrics.serviceCall("ensureTags", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void ensureParam(
+            String key,
+            String value,
+            String description,
+            ParamDataType type,
+            String tagCode,
+            Integer displayPriority) {
+        long start = System.nanoTime();
+        try {
+            delegate.ensureParam(key, value, description, type, tagCode, displayPriority);
+        } finally {
+            metrics.serviceCall("ensureParam", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void ensureParam(
+            String key,
+            Object value,
+            String description,
+            ParamDataType type,
+            String tagCode,
+            Integer displayPriority) {
+        long start = System.nanoTime();
+        try {
+            delegate.ensureParam(key, value, description, type, tagCode, displayPriority);
+        } finally {
+            metrics.serviceCall("ensureParam", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void ensureParams(List<ParamDefinition> definitions) {
+        long start = System.nanoTime();
+        try {
+            delegate.ensureParams(definitions);
+        } finally {
+            metrics.serviceCall("ensureParams", System.nanoTime() - start);
+        }
+    }
+}
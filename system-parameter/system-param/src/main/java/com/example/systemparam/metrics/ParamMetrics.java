@@ -0,0 +1,81 @@
+package com.example.systemparam.metrics;
+
+import com.example.systemparam.domain.ParamDataType;
+
+/**
+ * Receives measurements from {@link com.example.systemparam.service.SystemParams},
+ * {@link InstrumentedSystemParamService} and {@link InstrumentedSystemParamRepository}.
+ * Implementations are called on the reading threads and must be thread-safe
+ * and cheap; {@link InMemoryParamMetrics} is the built-in one.
+ *
+ * <p>When {@link #enabled()} is {@code false}, as for {@link #NOOP}, nothing
+ * is timed and no method below is called.
+ */
+public interface ParamMetrics {
+
+    ParamMetrics NOOP = new ParamMetrics() {
+        @Override
+        public boolean enabled() {
+            return false;
+        }
+
+        @Override
+        public void serviceCall(String method, long nanos) {
+        }
+
+        @Override
+        public void repositoryCall(String method, long nanos, boolean failed) {
+        }
+
+        @Override
+        public void conversion(ParamDataType type, long nanos) {
+        }
+
+        @Override
+        public void typeMismatch(String key) {
+        }
+
+        @Override
+        public void notFound(String key) {
+        }
+
+        @Override
+        public String toString() {
+            return "ParamMetrics.NOOP";
+        }
+    };
+
+    default boolean enabled() {
+        return true;
+    }
+
+    /**
+     * One call to a {@code SystemParamService} method, named without its
+     * parameter types, so overloads share a name.
+     */
+    void serviceCall(String method, long nanos);
+
+    /**
+     * One round trip through a {@code SystemParamRepository} method;
+     * {@code failed} when it threw.
+     */
+    void repositoryCall(String method, long nanos, boolean failed);
+
+    /**
+     * One conversion of a raw value of the given type. Reads served from
+     * memoized values do not convert and are not reported.
+     */
+    void conversion(ParamDataType type, long nanos);
+
+    /**
+     * A read of {@code key} that failed because its value does not convert
+     * to the requested type, whether it threw, returned an invalid
+     * {@code ParamResult} or fell back to a default.
+     */
+    void typeMismatch(String key);
+
+    /**
+     * A read of {@code key}, which does not exist.
+     */
+    void notFound(String key);
+}
@@ -1,14 +1,68 @@
 package com.example.systemparam.port;
 
+import com.example.systemparam.domain.ParamChangeSet;
 import com.example.systemparam.domain.SystemParamDto;
 import com.example.systemparam.domain.TagGroupDto;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public interface SystemParamRepository {
     SystemParamDto findByKey(String key);
+
+    /**
+     * Loads the params for all given keys; keys that do not exist are left out.
+     * The default loops over {@link #findByKey(String)}; implementations backed
+     * by a database should override it with a single query.
+     */
+    default List<SystemParamDto> findByKeys(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) return List.of();
+
+        List<SystemParamDto> out = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            SystemParamDto p = findByKey(key);
+            if (p != null) out.add(p);
+        }
+        return out;
+    }
+
     List<SystemParamDto> findAllParams();
     List<TagGroupDto> findAllTags();
     void save(SystemParamDto param);
     void save(TagGroupDto tag);
+
+    /**
+     * Saves all params as one unit of work. The default saves them one by one;
+     * database implementations should batch them in a single transaction.
+     */
+    default void saveParams(Collection<SystemParamDto> params) {
+        if (params == null) return;
+        for (SystemParamDto p : params) save(p);
+    }
+
+    /**
+     * Saves all tags as one unit of work; see {@link #saveParams(Collection)}.
+     */
+    default void saveTags(Collection<TagGroupDto> tags) {
+        if (tags == null) return;
+        for (TagGroupDto t : tags) save(t);
+    }
+
+    /**
+     * Highest revision committed so far. Every save stamps the rows it writes
+     * with a new revision; repositories without change tracking throw
+     * {@link UnsupportedOperationException}.
+     */
+    default long currentRevision() {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not track revisions");
+    }
+
+    /**
+     * Params and tags written after {@code revision}, plus the revision the
+     * result is complete up to. Only rows that changed are read.
+     */
+    default ParamChangeSet findChangedSince(long revision) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not track revisions");
+    }
 }
@@ -0,0 +1,66 @@
+package com.example.systemparam.service;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps a {@link SystemParams} in step with writes made by other nodes by
+ * calling {@link SystemParams#sync()} on a fixed delay. A change committed
+ * anywhere becomes visible locally within roughly one interval plus the
+ * time of one delta query. Failed polls are counted and retried on the next
+ * tick.
+ */
+public final class ParamChangePoller implements AutoCloseable {
+
+    private final SystemParams params;
+    private final ScheduledExecutorService scheduler;
+
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder syncs = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public ParamChangePoller(SystemParams params, Duration interval) {
+        if (params == null) throw new IllegalArgumentException("params is required");
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+        this.params = params;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "system-param-change-poller");
+            t.setDaemon(true);
+            return t;
+        });
+        long periodMillis = Math.max(1L, interval.toMillis());
+        scheduler.scheduleWithFixedDelay(this::pollQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public long pollCount() {
+        return polls.sum();
+    }
+
+    public long syncCount() {
+        return syncs.sum();
+    }
+
+    public long failureCount() {
+        return failures.sum();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void pollQuietly() {
+        polls.increment();
+        try {
+            if (params.sync()) syncs.increment();
+        } catch (RuntimeException e) {
+            failures.increment();
+        }
+    }
+}
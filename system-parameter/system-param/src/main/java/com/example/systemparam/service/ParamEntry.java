@@ -0,0 +1,530 @@
+package com.example.systemparam.service;
+
+import com.example.systemparam.collection.IntHashSet;
+import com.example.systemparam.collection.LongHashSet;
+import com.example.systemparam.converter.ConverterRegistry;
+import com.example.systemparam.converter.JsonPath;
+import com.example.systemparam.converter.ParamTypeConverter;
+import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.exception.ParamTypeMismatchException;
+import com.example.systemparam.metrics.ParamMetrics;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * One parameter inside a {@link ParamSnapshot} together with the values
+ * already converted from it and the conversions already known to fail.
+ * Entries are replaced whenever the parameter is written, so a memoized
+ * value can never outlive the raw value it came from.
+ */
+final class ParamEntry {
+
+    private static final Object NULL = new Object();
+    static final Object MISS = new Object();
+
+    private static final Object MAP = new Object();
+    private static final Object MAP_LIST = new Object();
+    private static final Object JSON_TREE = new Object();
+    private static final Object LONG_ARRAY = new Object();
+    private static final Object INT_ARRAY = new Object();
+    private static final Object LONG_SET = new Object();
+    private static final Object INT_SET = new Object();
+    private static final Object STRING_SET = new Object();
+
+    private static final ClassValue<Object> LIST_OF = new ClassValue<>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            return new Object();
+        }
+    };
+
+    private static final ClassValue<Object> ENUM_OF = new ClassValue<>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            return new Object();
+        }
+    };
+
+    // Two bits per primitive view: parsed, and parsed successfully.
+    private static final int INT_PARSED = 1;
+    private static final int LONG_PARSED = 1 << 2;
+    private static final int DOUBLE_PARSED = 1 << 4;
+    private static final int BOOLEAN_PARSED = 1 << 6;
+
+    private final SystemParamDto param;
+    private final ParamMetrics metrics;
+    private volatile ConcurrentHashMap<Object, Object> memo;
+
+    // Primitive views are kept in plain fields so reading them never boxes.
+    // The fields are written before the volatile state that publishes them.
+    private volatile int primitives;
+    private int intValue;
+    private long longValue;
+    private double doubleValue;
+    private boolean booleanValue;
+
+    ParamEntry(SystemParamDto frozenParam, ParamMetrics metrics) {
+        this.param = frozenParam;
+        this.metrics = metrics;
+    }
+
+    private ParamEntry(SystemParamDto frozenParam, ParamEntry previous) {
+        this.param = frozenParam;
+        this.metrics = previous.metrics;
+        this.memo = previous.memo;
+        // Read the volatile state first: it guarantees the values it marks
+        // as parsed are visible. Copying the values first could pair a
+        // parsed bit with a stale default.
+        int state = previous.primitives;
+        this.intValue = previous.intValue;
+        this.longValue = previous.longValue;
+        this.doubleValue = previous.doubleValue;
+        this.booleanValue = previous.booleanValue;
+        this.primitives = state;
+    }
+
+    /**
+     * Entry for a new version of this parameter. Converted values are carried
+     * over only when neither the raw value nor the data type changed.
+     */
+    ParamEntry next(SystemParamDto frozenParam) {
+        if (Objects.equals(param.getValue(), frozenParam.getValue()) && param.getType() == frozenParam.getType()) {
+            return new ParamEntry(frozenParam, this);
+        }
+        return new ParamEntry(frozenParam, metrics);
+    }
+
+    SystemParamDto param() {
+        return param;
+    }
+
+    String key() {
+        return param.getKey();
+    }
+
+    String value() {
+        return param.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T as(Class<T> targetType) {
+        Object hit = cached(targetType);
+        if (hit != MISS) return (T) unwrap(hit);
+
+        T converted;
+        long start = startConversion();
+        try {
+            converted = ParamTypeConverter.convert(param, targetType);
+        } catch (ParamTypeMismatchException e) {
+            throw fail(targetType, e);
+        } finally {
+            endConversion(start);
+        }
+        return isShareable(targetType) ? remember(targetType, converted) : converted;
+    }
+
+    @SuppressWarnings("unchecked")
+    <E extends Enum<E>> E asEnum(Class<E> enumType) {
+        Object token = ENUM_OF.get(enumType);
+        Object hit = cached(token);
+        if (hit != MISS) return (E) unwrap(hit);
+
+        long start = startConversion();
+        try {
+            return remember(token, ParamTypeConverter.convertEnum(param, enumType));
+        } catch (ParamTypeMismatchException e) {
+            throw fail(token, e);
+        } finally {
+            endConversion(start);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> List<T> asList(Class<T> elementType) {
+        Object token = LIST_OF.get(elementType);
+        Object hit = cached(token);
+        if (hit != MISS) return (List<T>) unwrap(hit);
+
+        List<T> converted;
+        long start = startConversion();
+        try {
+            converted = ParamTypeConverter.convertList(param, elementType);
+        } catch (ParamTypeMismatchException e) {
+            throw fail(token, e);
+        } finally {
+            endConversion(start);
+        }
+        if (!isShareable(elementType)) return converted;
+        return remember(token, Collections.unmodifiableList(converted));
+    }
+
+    /**
+     * The parsed JSON object. Shares the tree read by {@link #asMapList()},
+     * so the value is parsed at most once however it is viewed.
+     */
+    @SuppressWarnings("unchecked")
+    Map<String, Object> asMap() {
+        return derive(MAP, () -> {
+            Object tree = jsonTree("JSON");
+            if (tree != null && !(tree instanceof Map)) throw new ParamTypeMismatchException(key(), "JSON", value());
+            return (Map<String, Object>) tree;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    List<Map<String, Object>> asMapList() {
+        return derive(MAP_LIST, () -> {
+            Object tree = jsonTree("JSON[]");
+            if (tree != null && !isListOfMaps(tree)) throw new ParamTypeMismatchException(key(), "JSON[]", value());
+            return (List<Map<String, Object>>) tree;
+        });
+    }
+
+    /**
+     * Walks the memoized JSON tree; nothing is parsed after the first read.
+     */
+    <T> T atPath(JsonPath path, Class<T> targetType) {
+        Object node = path.evaluate(jsonTree("JSON"));
+        long start = startConversion();
+        try {
+            return ParamTypeConverter.convertJsonNode(key(), node, targetType);
+        } finally {
+            endConversion(start);
+        }
+    }
+
+    LongHashSet asLongSet() {
+        return derive(LONG_SET, () -> LongHashSet.of(longs()));
+    }
+
+    IntHashSet asIntSet() {
+        return derive(INT_SET, () -> IntHashSet.of(ints()));
+    }
+
+    Set<String> asStringSet() {
+        return derive(STRING_SET, () -> {
+            List<String> values = asList(String.class);
+            if (values.contains(null)) throw new ParamTypeMismatchException(key(), "TEXT[]", value());
+            return Set.copyOf(values);
+        });
+    }
+
+    /**
+     * A copy of the memoized array; the shared one never leaves this entry.
+     */
+    long[] asLongArray() {
+        return longs().clone();
+    }
+
+    int[] asIntArray() {
+        return ints().clone();
+    }
+
+    <T> ParamResult<T> resultAs(Class<T> targetType) {
+        Object hit = cached(targetType);
+        return hit != MISS ? result(hit) : attempt(targetType, () -> as(targetType));
+    }
+
+    <E extends Enum<E>> ParamResult<E> resultEnum(Class<E> enumType) {
+        Object token = ENUM_OF.get(enumType);
+        Object hit = cached(token);
+        return hit != MISS ? result(hit) : attempt(token, () -> asEnum(enumType));
+    }
+
+    <T> ParamResult<List<T>> resultList(Class<T> elementType) {
+        Object token = LIST_OF.get(elementType);
+        Object hit = cached(token);
+        return hit != MISS ? result(hit) : attempt(token, () -> asList(elementType));
+    }
+
+    ParamResult<Map<String, Object>> resultMap() {
+        Object hit = cached(MAP);
+        return hit != MISS ? result(hit) : attempt(MAP, this::asMap);
+    }
+
+    ParamResult<List<Map<String, Object>>> resultMapList() {
+        Object hit = cached(MAP_LIST);
+        return hit != MISS ? result(hit) : attempt(MAP_LIST, this::asMapList);
+    }
+
+    int asInt(int defaultValue) {
+        int state = primitives;
+        if ((state & INT_PARSED) == 0) state = parsePrimitive(INT_PARSED);
+        if ((state & (INT_PARSED << 1)) != 0) return intValue;
+        primitiveMismatch();
+        return defaultValue;
+    }
+
+    long asLong(long defaultValue) {
+        int state = primitives;
+        if ((state & LONG_PARSED) == 0) state = parsePrimitive(LONG_PARSED);
+        if ((state & (LONG_PARSED << 1)) != 0) return longValue;
+        primitiveMismatch();
+        return defaultValue;
+    }
+
+    double asDouble(double defaultValue) {
+        int state = primitives;
+        if ((state & DOUBLE_PARSED) == 0) state = parsePrimitive(DOUBLE_PARSED);
+        if ((state & (DOUBLE_PARSED << 1)) != 0) return doubleValue;
+        primitiveMismatch();
+        return defaultValue;
+    }
+
+    boolean asBoolean(boolean defaultValue) {
+        int state = primitives;
+        if ((state & BOOLEAN_PARSED) == 0) state = parsePrimitive(BOOLEAN_PARSED);
+        if ((state & (BOOLEAN_PARSED << 1)) != 0) return booleanValue;
+        primitiveMismatch();
+        return defaultValue;
+    }
+
+    private long[] longs() {
+        return derive(LONG_ARRAY, () -> {
+            List<Long> values = asList(Long.class);
+            long[] out = new long[values.size()];
+            for (int i = 0; i < out.length; i++) {
+                Long v = values.get(i);
+                if (v == null) throw new ParamTypeMismatchException(key(), "NUMBER[]", value());
+                out[i] = v;
+            }
+            return out;
+        });
+    }
+
+    private int[] ints() {
+        return derive(INT_ARRAY, () -> {
+            List<Integer> values = asList(Integer.class);
+            int[] out = new int[values.size()];
+            for (int i = 0; i < out.length; i++) {
+                Integer v = values.get(i);
+                if (v == null) throw new ParamTypeMismatchException(key(), "NUMBER[]", value());
+                out[i] = v;
+            }
+            return out;
+        });
+    }
+
+    private Object jsonTree(String expected) {
+        try {
+            return derive(JSON_TREE, () -> {
+                long start = startConversion();
+                try {
+                    return ParamTypeConverter.toJsonTree(key(), value());
+                } finally {
+                    endConversion(start);
+                }
+            });
+        } catch (ParamTypeMismatchException e) {
+            throw new ParamTypeMismatchException(key(), expected, value());
+        }
+    }
+
+    private static boolean isListOfMaps(Object tree) {
+        if (!(tree instanceof List<?> list)) return false;
+        for (Object o : list) {
+            if (o != null && !(o instanceof Map)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Memoizes a value built from another memoized view, such as a set built
+     * from the converted list, under its own token.
+     */
+    @SuppressWarnings("unchecked")
+    private <V> V derive(Object token, Supplier<V> build) {
+        Object hit = cached(token);
+        if (hit != MISS) return (V) unwrap(hit);
+
+        try {
+            return remember(token, build.get());
+        } catch (ParamTypeMismatchException e) {
+            throw fail(token, e);
+        }
+    }
+
+    Object cached(Object token) {
+        ConcurrentHashMap<Object, Object> m = memo;
+        if (m == null) return MISS;
+
+        Object v = m.get(token);
+        if (v == null) return MISS;
+        return v == NULL ? null : v;
+    }
+
+    @SuppressWarnings("unchecked")
+    <V> V remember(Object token, V value) {
+        ConcurrentHashMap<Object, Object> m = memo;
+        if (m == null) {
+            synchronized (this) {
+                m = memo;
+                if (m == null) {
+                    m = new ConcurrentHashMap<>(4);
+                    memo = m;
+                }
+            }
+        }
+
+        Object prev = m.putIfAbsent(token, value == null ? NULL : value);
+        if (prev == null) return value;
+        return prev == NULL ? null : (V) prev;
+    }
+
+    /**
+     * Parses one primitive view with the same rules as {@link ParamTypeConverter}
+     * and records whether it succeeded, so a bad value is not parsed again.
+     */
+    private synchronized int parsePrimitive(int kind) {
+        int state = primitives;
+        if ((state & kind) != 0) return state;
+
+        long start = startConversion();
+        boolean ok = switch (kind) {
+            case INT_PARSED -> parseInt();
+            case LONG_PARSED -> parseLong();
+            case DOUBLE_PARSED -> parseDouble();
+            default -> parseBoolean();
+        };
+        endConversion(start);
+        state |= ok ? kind | (kind << 1) : kind;
+        primitives = state;
+        return state;
+    }
+
+    private boolean parseInt() {
+        String v = numberText();
+        if (v == null) return false;
+        try {
+            intValue = Integer.parseInt(v);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private boolean parseLong() {
+        String v = numberText();
+        if (v == null) return false;
+        try {
+            longValue = Long.parseLong(v);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private boolean parseDouble() {
+        String v = numberText();
+        if (v == null) return false;
+        try {
+            doubleValue = Double.parseDouble(v);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private boolean parseBoolean() {
+        if (param.getType() != ParamDataType.BOOLEAN || param.getValue() == null) return false;
+
+        String v = param.getValue().trim();
+        if ("1".equals(v) || "true".equalsIgnoreCase(v)) {
+            booleanValue = true;
+            return true;
+        }
+        if ("0".equals(v) || "false".equalsIgnoreCase(v)) {
+            booleanValue = false;
+            return true;
+        }
+        return false;
+    }
+
+    private String numberText() {
+        if (param.getType() != ParamDataType.NUMBER || param.getValue() == null) return null;
+        return param.getValue().trim();
+    }
+
+    private long startConversion() {
+        return metrics.enabled() ? System.nanoTime() : 0L;
+    }
+
+    private void endConversion(long start) {
+        if (start == 0L) return;
+        ParamDataType type = param.getType() == null ? ParamDataType.TEXT : param.getType();
+        metrics.conversion(type, System.nanoTime() - start);
+    }
+
+    /**
+     * Primitive reads fall back to the default instead of throwing, so their
+     * mismatches are reported here; a {@code null} value is not a mismatch.
+     */
+    private void primitiveMismatch() {
+        if (metrics.enabled() && param.getValue() != null) metrics.typeMismatch(key());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> ParamResult<V> result(Object hit) {
+        if (hit instanceof Failure f) return ParamResult.invalid(key(), f.error());
+        return ParamResult.found(key(), (V) hit);
+    }
+
+    private <V> ParamResult<V> attempt(Object token, Supplier<V> conversion) {
+        try {
+            return ParamResult.found(key(), conversion.get());
+        } catch (ParamTypeMismatchException e) {
+            // fail() has stored the failure under the token.
+            return result(cached(token));
+        }
+    }
+
+    /**
+     * Remembers that converting under {@code token} fails, so later lookups
+     * neither convert again nor build a stack trace to find out.
+     */
+    private ParamTypeMismatchException fail(Object token, ParamTypeMismatchException e) {
+        remember(token, new Failure(new ParamTypeMismatchException(
+                e.getKey(), e.getExpected(), e.getActualValue(), e.getMaxLength(), false, e.getCause())));
+        return e;
+    }
+
+    private static Object unwrap(Object hit) {
+        if (hit instanceof Failure f) {
+            ParamTypeMismatchException e = f.error();
+            throw new ParamTypeMismatchException(e.getKey(), e.getExpected(), e.getActualValue(), e.getMaxLength(),
+                    true, e.getCause());
+        }
+        return hit;
+    }
+
+    private record Failure(ParamTypeMismatchException error) {
+    }
+
+    private static boolean isShareable(Class<?> type) {
+        return type.isPrimitive()
+                || type.isEnum()
+                || type == String.class
+                || type == Integer.class
+                || type == Long.class
+                || type == Double.class
+                || type == Float.class
+                || type == Short.class
+                || type == Byte.class
+                || type == Boolean.class
+                || type == Character.class
+                || type == BigDecimal.class
+                || type == BigInteger.class
+                || type == Duration.class
+                || ConverterRegistry.supports(type);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.systemparam.service;
+
+/**
+ * Live handle on one parameter, converted to a fixed type. {@link #get()}
+ * is a single volatile read; {@link SystemParams} pushes a newly converted
+ * value into the handle whenever a published snapshot changes the
+ * parameter. Missing or unconvertible values read as the default.
+ *
+ * <p>The converted value is shared by every caller of {@code get()}, so
+ * prefer immutable target types. Handles are held weakly by their
+ * {@code SystemParams}; keep a reference for as long as it is used.
+ */
+public final class ParamRef<T> {
+
+    private final String key;
+    private final Class<T> type;
+    private final T defaultValue;
+    private volatile T value;
+
+    ParamRef(String key, Class<T> type, T defaultValue) {
+        this.key = key;
+        this.type = type;
+        this.defaultValue = defaultValue;
+    }
+
+    public T get() {
+        return value;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    public T defaultValue() {
+        return defaultValue;
+    }
+
+    void resolve(ParamSnapshot snapshot) {
+        ParamEntry entry = snapshot.entry(key);
+        T resolved;
+        try {
+            resolved = entry == null ? defaultValue : entry.resultAs(type).orElse(defaultValue);
+        } catch (RuntimeException e) {
+            // Runs while a snapshot is published; a converter that throws
+            // something other than a mismatch must not fail the write.
+            resolved = defaultValue;
+        }
+        value = resolved;
+    }
+
+    @Override
+    public String toString() {
+        return "ParamRef[" + key + "=" + value + "]";
+    }
+}
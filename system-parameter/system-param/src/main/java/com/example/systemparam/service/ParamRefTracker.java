@@ -0,0 +1,79 @@
+package com.example.systemparam.service;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The live {@link ParamRef} handles of one {@link SystemParams}, held weakly
+ * and grouped by key. Handles that were garbage collected are queued and
+ * dropped on the next {@link #track} or {@link #update}, whether or not
+ * their key is ever written again. Not thread-safe: the owner calls it
+ * under its write lock.
+ */
+final class ParamRefTracker {
+
+    private final HashMap<String, List<Handle>> byKey = new HashMap<>();
+    private final ReferenceQueue<ParamRef<?>> collected = new ReferenceQueue<>();
+
+    /**
+     * Starts tracking {@code ref}. The returned reference is the one
+     * enqueued once {@code ref} is collected.
+     */
+    Reference<ParamRef<?>> track(ParamRef<?> ref) {
+        expunge();
+        Handle handle = new Handle(ref, collected);
+        byKey.computeIfAbsent(ref.key(), k -> new ArrayList<>(2)).add(handle);
+        return handle;
+    }
+
+    /**
+     * Re-resolves the handles whose parameter entry differs between the two
+     * snapshots.
+     */
+    void update(ParamSnapshot previous, ParamSnapshot next) {
+        expunge();
+        Iterator<Map.Entry<String, List<Handle>>> it = byKey.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, List<Handle>> e = it.next();
+            if (previous != null && previous.entry(e.getKey()) == next.entry(e.getKey())) continue;
+
+            List<Handle> handles = e.getValue();
+            handles.removeIf(w -> {
+                ParamRef<?> ref = w.get();
+                if (ref == null) return true;
+                ref.resolve(next);
+                return false;
+            });
+            if (handles.isEmpty()) it.remove();
+        }
+    }
+
+    /** Keys with at least one handle still tracked. */
+    int trackedKeys() {
+        expunge();
+        return byKey.size();
+    }
+
+    private void expunge() {
+        for (Reference<?> polled; (polled = collected.poll()) != null; ) {
+            Handle handle = (Handle) polled;
+            List<Handle> handles = byKey.get(handle.key);
+            if (handles != null && handles.remove(handle) && handles.isEmpty()) byKey.remove(handle.key);
+        }
+    }
+
+    private static final class Handle extends WeakReference<ParamRef<?>> {
+        final String key;
+
+        Handle(ParamRef<?> ref, ReferenceQueue<ParamRef<?>> queue) {
+            super(ref, queue);
+            this.key = ref.key();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.systemparam.service;
+
+import com.example.systemparam.exception.ParamNotFoundException;
+import com.example.systemparam.exception.ParamTypeMismatchException;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Outcome of a lookup that does not throw: the converted value, a missing
+ * key, or a value that could not be converted. Only {@link #get()} throws,
+ * with a fresh exception carrying the caller's stack trace.
+ */
+public final class ParamResult<T> {
+
+    public enum Status { FOUND, MISSING, INVALID }
+
+    private final Status status;
+    private final String key;
+    private final T value;
+    private final ParamTypeMismatchException error;
+
+    private ParamResult(Status status, String key, T value, ParamTypeMismatchException error) {
+        this.status = status;
+        this.key = key;
+        this.value = value;
+        this.error = error;
+    }
+
+    public static <T> ParamResult<T> found(String key, T value) {
+        return new ParamResult<>(Status.FOUND, key, value, null);
+    }
+
+    public static <T> ParamResult<T> missing(String key) {
+        return new ParamResult<>(Status.MISSING, key, null, null);
+    }
+
+    public static <T> ParamResult<T> invalid(String key, ParamTypeMismatchException error) {
+        return new ParamResult<>(Status.INVALID, key, null, Objects.requireNonNull(error, "error"));
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public boolean isFound() {
+        return status == Status.FOUND;
+    }
+
+    public boolean isMissing() {
+        return status == Status.MISSING;
+    }
+
+    public boolean isInvalid() {
+        return status == Status.INVALID;
+    }
+
+    /**
+     * Why the value could not be converted, or {@code null} unless
+     * {@link #isInvalid()}. The instance is shared and has no stack trace.
+     */
+    public ParamTypeMismatchException error() {
+        return error;
+    }
+
+    public T get() {
+        return switch (status) {
+            case FOUND -> value;
+            case MISSING -> throw new ParamNotFoundException(key);
+            case INVALID -> throw new ParamTypeMismatchException(
+                    error.getKey(), error.getExpected(), error.getActualValue(), error.getMaxLength());
+        };
+    }
+
+    public T orElse(T other) {
+        return status == Status.FOUND ? value : other;
+    }
+
+    public T orElseGet(Supplier<? extends T> other) {
+        return status == Status.FOUND ? value : other.get();
+    }
+
+    public Optional<T> toOptional() {
+        return status == Status.FOUND ? Optional.ofNullable(value) : Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return switch (status) {
+            case FOUND -> "ParamResult[" + key + "=" + value + "]";
+            case MISSING -> "ParamResult[" + key + " missing]";
+            case INVALID -> "ParamResult[" + key + " invalid: expected " + error.getExpected() + "]";
+        };
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.systemparam.service;
+
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.domain.TagGroupDto;
+import com.example.systemparam.metrics.ParamMetrics;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, versioned view of every parameter and tag. A new snapshot is
+ * built (copy-on-write) for each committed change and published by
+ * {@link SystemParams} with a single volatile write; the version grows by
+ * one on every publication. {@link #revision()} is the repository revision
+ * the snapshot has caught up with, or {@code -1} when the repository does not
+ * track revisions.
+ */
+public final class ParamSnapshot {
+
+    private final long version;
+    private final long revision;
+    private final Map<String, ParamEntry> params;
+    private final Map<String, TagGroupDto> tags;
+    private final Map<String, TagGroupEntry> groups;
+    private final List<TagGroupEntry> sortedGroups;
+    private final ParamMetrics metrics;
+
+    private ParamSnapshot(long version, long revision, Map<String, ParamEntry> params, Map<String, TagGroupDto> tags,
+                          Map<String, TagGroupEntry> groups, List<TagGroupEntry> sortedGroups, ParamMetrics metrics) {
+        this.version = version;
+        this.revision = revision;
+        this.params = params;
+        this.tags = tags;
+        this.groups = groups;
+        this.sortedGroups = sortedGroups;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Builds a snapshot from a full reload, keeping converted values of
+     * entries in {@code previous} whose value and type did not change.
+     * New entries report their conversions to {@code metrics}.
+     */
+    static ParamSnapshot reload(ParamSnapshot previous, long version, long revision,
+                                List<SystemParamDto> paramList, List<TagGroupDto> tagList, ParamMetrics metrics) {
+        LinkedHashMap<String, ParamEntry> params =
+                new LinkedHashMap<>(paramList == null ? 16 : paramList.size() * 2);
+
+        if (paramList != null) {
+            for (SystemParamDto p : paramList) {
+                if (p == null || p.getKey() == null) continue;
+                SystemParamDto frozen = p.copy().freeze();
+                ParamEntry old = previous == null ? null : previous.params.get(p.getKey());
+                params.put(p.getKey(), old == null ? new ParamEntry(frozen, metrics) : old.next(frozen));
+            }
+        }
+
+        LinkedHashMap<String, TagGroupDto> tags = new LinkedHashMap<>();
+        if (tagList != null) {
+            for (TagGroupDto t : tagList) {
+                if (t == null) continue;
+                String code = t.getTagCode();
+                if (code == null || code.isBlank()) continue;
+                tags.put(SystemParams.normalizeTagCode(code), t.copy());
+            }
+        }
+
+        LinkedHashMap<String, List<SystemParamDto>> byTag = new LinkedHashMap<>();
+        for (ParamEntry entry : params.values()) {
+            SystemParamDto p = entry.param();
+            byTag.computeIfAbsent(SystemParams.normalizeTagCode(p.getTagCode()), k -> new ArrayList<>()).add(p);
+        }
+
+        LinkedHashMap<String, TagGroupEntry> groups = new LinkedHashMap<>();
+        for (Map.Entry<String, TagGroupDto> e : tags.entrySet()) {
+            List<SystemParamDto> members = byTag.remove(e.getKey());
+            groups.put(e.getKey(), TagGroupEntry.of(e.getKey(), e.getValue(), members == null ? List.of() : members));
+        }
+        for (Map.Entry<String, List<SystemParamDto>> e : byTag.entrySet()) {
+            groups.put(e.getKey(), TagGroupEntry.of(e.getKey(), null, e.getValue()));
+        }
+
+        return new ParamSnapshot(version, revision, params, tags, groups, sortGroups(groups), metrics);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public long revision() {
+        return revision;
+    }
+
+    public int size() {
+        return params.size();
+    }
+
+    public boolean contains(String key) {
+        return key != null && params.containsKey(key);
+    }
+
+    /**
+     * Returns the read-only parameter stored under {@code key}, or {@code null}.
+     * The returned instance is shared; its setters throw.
+     */
+    public SystemParamDto find(String key) {
+        ParamEntry entry = entry(key);
+        return entry == null ? null : entry.param();
+    }
+
+    public Set<String> keys() {
+        return Collections.unmodifiableSet(params.keySet());
+    }
+
+    ParamEntry entry(String key) {
+        return key == null ? null : params.get(key);
+    }
+
+    Collection<SystemParamDto> params() {
+        Collection<ParamEntry> entries = params.values();
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<SystemParamDto> iterator() {
+                Iterator<ParamEntry> it = entries.iterator();
+                return new Iterator<>() {
+                    @Override public boolean hasNext() { return it.hasNext(); }
+                    @Override public SystemParamDto next() { return it.next().param(); }
+                };
+            }
+
+            @Override
+            public int size() {
+                return entries.size();
+            }
+        };
+    }
+
+    TagGroupDto tag(String normalizedCode) {
+        return tags.get(normalizedCode);
+    }
+
+    Collection<TagGroupDto> tags() {
+        return Collections.unmodifiableCollection(tags.values());
+    }
+
+    TagGroupEntry group(String normalizedCode) {
+        return groups.get(normalizedCode);
+    }
+
+    /**
+     * Groups ordered by tag priority, then tag code.
+     */
+    List<TagGroupEntry> groups() {
+        return sortedGroups;
+    }
+
+    ParamSnapshot withParam(SystemParamDto param) {
+        return withParams(List.of(param));
+    }
+
+    ParamSnapshot withParams(Collection<SystemParamDto> changed) {
+        LinkedHashMap<String, ParamEntry> nextParams = new LinkedHashMap<>(params);
+        LinkedHashMap<String, TagGroupEntry> nextGroups = new LinkedHashMap<>(groups);
+
+        for (SystemParamDto param : changed) {
+            SystemParamDto frozen = param.copy().freeze();
+            ParamEntry old = nextParams.get(frozen.getKey());
+            nextParams.put(frozen.getKey(), old == null ? new ParamEntry(frozen, metrics) : old.next(frozen));
+
+            if (old != null) {
+                String oldCode = SystemParams.normalizeTagCode(old.param().getTagCode());
+                TagGroupEntry oldGroup = nextGroups.get(oldCode).withoutParam(old.param());
+                if (oldGroup.isEmpty()) {
+                    nextGroups.remove(oldCode);
+                } else {
+                    nextGroups.put(oldCode, oldGroup);
+                }
+            }
+
+            String code = SystemParams.normalizeTagCode(frozen.getTagCode());
+            TagGroupEntry group = nextGroups.get(code);
+            if (group == null) group = TagGroupEntry.of(code, null, List.of());
+            nextGroups.put(code, group.withParam(frozen));
+        }
+
+        return new ParamSnapshot(version + 1, revision, nextParams, tags, nextGroups, sortGroups(nextGroups), metrics);
+    }
+
+    ParamSnapshot withTag(String normalizedCode, TagGroupDto tag) {
+        return withTags(Map.of(normalizedCode, tag));
+    }
+
+    ParamSnapshot withTags(Map<String, TagGroupDto> changed) {
+        LinkedHashMap<String, TagGroupDto> nextTags = new LinkedHashMap<>(tags);
+        LinkedHashMap<String, TagGroupEntry> nextGroups = new LinkedHashMap<>(groups);
+
+        for (Map.Entry<String, TagGroupDto> e : changed.entrySet()) {
+            TagGroupDto meta = e.getValue().copy();
+            nextTags.put(e.getKey(), meta);
+
+            TagGroupEntry group = nextGroups.get(e.getKey());
+            nextGroups.put(e.getKey(), group == null
+                    ? TagGroupEntry.of(e.getKey(), meta, List.of())
+                    : group.withMeta(meta));
+        }
+
+        return new ParamSnapshot(version + 1, revision, params, nextTags, nextGroups, sortGroups(nextGroups), metrics);
+    }
+
+    /**
+     * Applies a delta read from the repository as one new version and moves
+     * the snapshot to {@code nextRevision}.
+     */
+    ParamSnapshot withChanges(Map<String, TagGroupDto> changedTags, Collection<SystemParamDto> changedParams,
+                              long nextRevision) {
+        ParamSnapshot next = this;
+        if (!changedTags.isEmpty()) next = next.withTags(changedTags);
+        if (!changedParams.isEmpty()) next = next.withParams(changedParams);
+        return new ParamSnapshot(version + 1, nextRevision, next.params, next.tags, next.groups, next.sortedGroups,
+                metrics);
+    }
+
+    private static List<TagGroupEntry> sortGroups(Map<String, TagGroupEntry> groups) {
+        ArrayList<TagGroupEntry> sorted = new ArrayList<>(groups.values());
+        sorted.sort(TagGroupEntry.GROUP_ORDER);
+        return Collections.unmodifiableList(sorted);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.systemparam.service;
+
+import com.example.systemparam.annotation.ParamKey;
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.exception.ParamNotFoundException;
+import com.example.systemparam.exception.ParamTypeMismatchException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds a record from the params of one tag. Everything reflective is done
+ * once per record type; binding itself is a key lookup and a conversion per
+ * component, then one call through the canonical constructor handle.
+ *
+ * <p>A component binds to the param named by {@link ParamKey}, or else to
+ * the param whose key matches the component name ignoring case and
+ * {@code . _ -} separators, with or without the tag code as a prefix:
+ * {@code maxRetries} matches {@code maxRetries}, {@code max_retries} and
+ * {@code payment.max-retries} in tag {@code PAYMENT}. A {@link ParamKey}
+ * must name a param of the bound tag, since the record is cached on the
+ * tag and only rebuilt when the tag changes.
+ */
+final class RecordBinder<R extends Record> {
+
+    private static final ClassValue<RecordBinder<?>> BINDERS = new ClassValue<>() {
+        @Override
+        protected RecordBinder<?> computeValue(Class<?> type) {
+            return compile(type.asSubclass(Record.class));
+        }
+    };
+
+    private final Class<R> type;
+    private final Component[] components;
+    private final MethodHandle constructor;
+
+    private RecordBinder(Class<R> type, Component[] components, MethodHandle constructor) {
+        this.type = type;
+        this.components = components;
+        this.constructor = constructor;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <R extends Record> RecordBinder<R> of(Class<R> type) {
+        if (type == null || !type.isRecord()) throw new IllegalArgumentException("record type required: " + type);
+        return (RecordBinder<R>) BINDERS.get(type);
+    }
+
+    Class<R> type() {
+        return type;
+    }
+
+    R bind(TagGroupEntry group, ParamSnapshot snapshot) {
+        Map<String, String> keys = new HashMap<>(group.params().size() * 2);
+        String prefix = relaxed(group.code());
+        for (SystemParamDto p : group.params()) {
+            String relaxed = relaxed(p.getKey());
+            keys.put(relaxed, p.getKey());
+            if (!prefix.isEmpty() && relaxed.startsWith(prefix) && relaxed.length() > prefix.length()) {
+                keys.putIfAbsent(relaxed.substring(prefix.length()), p.getKey());
+            }
+        }
+
+        Object[] args = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            Component c = components[i];
+            String key = c.explicitKey != null ? c.explicitKey : keys.get(c.relaxedName);
+            ParamEntry entry = key == null ? null : snapshot.entry(key);
+            if (entry != null && c.explicitKey != null
+                    && !group.code().equals(SystemParams.normalizeTagCode(entry.param().getTagCode()))) {
+                throw new IllegalArgumentException("@ParamKey(\"" + key + "\") on " + type.getSimpleName() + "."
+                        + c.name + " is not a param of tag " + group.code());
+            }
+            if (entry == null) {
+                if (c.type.isPrimitive()) throw new ParamNotFoundException(key != null ? key : c.name);
+                continue;
+            }
+            args[i] = c.convert(entry);
+            if (args[i] == null && c.type.isPrimitive()) {
+                throw new ParamTypeMismatchException(key, c.expected(), null);
+            }
+        }
+
+        try {
+            return type.cast(constructor.invoke(args));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to construct " + type.getName(), t);
+        }
+    }
+
+    /**
+     * Whether every {@link ParamKey} of the record names a param of
+     * {@code group}. An explicit key that does not exist yet may later be
+     * created in another tag, so records bound without it are not cached.
+     */
+    boolean explicitKeysIn(TagGroupEntry group) {
+        for (Component c : components) {
+            if (c.explicitKey == null) continue;
+            boolean found = false;
+            for (SystemParamDto p : group.params()) {
+                if (c.explicitKey.equals(p.getKey())) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) return false;
+        }
+        return true;
+    }
+
+    private static <R extends Record> RecordBinder<R> compile(Class<R> type) {
+        RecordComponent[] rc = type.getRecordComponents();
+        Class<?>[] types = new Class<?>[rc.length];
+        Component[] components = new Component[rc.length];
+        for (int i = 0; i < rc.length; i++) {
+            types[i] = rc[i].getType();
+            components[i] = new Component(rc[i]);
+        }
+
+        try {
+            Constructor<R> ctor = type.getDeclaredConstructor(types);
+            ctor.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(ctor)
+                    .asSpreader(Object[].class, rc.length);
+            return new RecordBinder<>(type, components, handle);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException("Cannot bind params to " + type.getName(), e);
+        }
+    }
+
+    private static String relaxed(String name) {
+        if (name == null) return "";
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '.' && c != '_' && c != '-') sb.append(c);
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Component {
+
+        private final String name;
+        private final String relaxedName;
+        private final String explicitKey;
+        private final Class<?> type;
+        private final Class<?> listElement;
+
+        Component(RecordComponent rc) {
+            this.name = rc.getName();
+            this.relaxedName = relaxed(name);
+            ParamKey annotation = rc.getAnnotation(ParamKey.class);
+            this.explicitKey = annotation == null ? null : annotation.value();
+            this.type = rc.getType();
+            this.listElement = type == List.class ? typeArgument(rc.getGenericType()) : null;
+        }
+
+        Object convert(ParamEntry entry) {
+            if (listElement != null) return entry.asList(listElement);
+            if (type == Map.class) return entry.asMap();
+            return entry.as(type);
+        }
+
+        String expected() {
+            if (type == boolean.class) return "BOOLEAN";
+            if (type == char.class) return "TEXT";
+            return "NUMBER";
+        }
+
+        private static Class<?> typeArgument(Type generic) {
+            if (generic instanceof ParameterizedType p && p.getActualTypeArguments()[0] instanceof Class<?> c) {
+                return c;
+            }
+            return String.class;
+        }
+    }
+}
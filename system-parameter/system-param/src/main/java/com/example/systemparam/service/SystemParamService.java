@@ -1,12 +1,30 @@
 package com.example.systemparam.service;
+import com.example.systemparam.collection.IntHashSet;
+import com.example.systemparam.collection.LongHashSet;
+import com.example.systemparam.converter.JsonPath;
+import com.example.systemparam.converter.ParamTypeConverter;
 import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.ParamDefinition;
+import com.example.systemparam.domain.TagDefinition;
 import com.example.systemparam.domain.TagGroupViewDto;
+import com.example.systemparam.exception.ParamNotFoundException;
+import com.example.systemparam.exception.ParamTypeMismatchException;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
+/**
+ * Read and write access to system parameters. Methods added after the first
+ * release have defaults built on the original ones, so existing
+ * implementations keep compiling; {@link SystemParams} overrides them all
+ * with snapshot-backed versions.
+ */
 public interface SystemParamService {
 
     String get(String key);
@@ -15,10 +33,78 @@ public interface SystemParamService {
 
     String getOrDefault(String key, String defaultValue);
 
+    /**
+     * Values of the keys that exist, in the order given. The default calls
+     * {@link #get(String)} per key.
+     */
+    default Map<String, String> getAll(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) return Map.of();
+
+        LinkedHashMap<String, String> out = new LinkedHashMap<>(keys.size() * 2);
+        for (String key : keys) {
+            try {
+                out.put(key, get(key));
+            } catch (ParamNotFoundException ignore) {}
+        }
+        return out;
+    }
+
     <T> T getAs(String key, Class<T> targetType);
 
     <T> T getAsOrDefault(String key, Class<T> targetType, T defaultValue);
 
+    default <T> ParamResult<T> getResult(String key, Class<T> targetType) {
+        return result(key, () -> getAs(key, targetType));
+    }
+
+    /**
+     * Converted values of the keys that exist, in the order given. The
+     * default calls {@link #getAs(String, Class)} per key.
+     */
+    default <T> Map<String, T> getAllAs(Collection<String> keys, Class<T> targetType) {
+        if (targetType == null) throw new IllegalArgumentException("targetType required");
+        if (keys == null || keys.isEmpty()) return Map.of();
+
+        LinkedHashMap<String, T> out = new LinkedHashMap<>(keys.size() * 2);
+        for (String key : keys) {
+            try {
+                out.put(key, getAs(key, targetType));
+            } catch (ParamNotFoundException ignore) {}
+        }
+        return out;
+    }
+
+    /**
+     * Handle whose {@code get()} returns the current value of {@code key}
+     * converted to {@code type}, or {@code defaultValue} when the key is
+     * missing or does not convert. The value follows every write and reload.
+     * Implementations that cannot push updates throw
+     * {@link UnsupportedOperationException}.
+     */
+    default <T> ParamRef<T> ref(String key, Class<T> type, T defaultValue) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support live refs");
+    }
+
+    default int getInt(String key, int defaultValue) {
+        Integer v = getResult(key, Integer.class).orElse(null);
+        return v == null ? defaultValue : v;
+    }
+
+    default long getLong(String key, long defaultValue) {
+        Long v = getResult(key, Long.class).orElse(null);
+        return v == null ? defaultValue : v;
+    }
+
+    default double getDouble(String key, double defaultValue) {
+        Double v = getResult(key, Double.class).orElse(null);
+        return v == null ? defaultValue : v;
+    }
+
+    default boolean getBoolean(String key, boolean defaultValue) {
+        Boolean v = getResult(key, Boolean.class).orElse(null);
+        return v == null ? defaultValue : v;
+    }
+
     Duration getDuration(String key);
 
     Duration getDurationOrDefault(String key, Duration defaultValue);
@@ -27,23 +113,104 @@ public interface SystemParamService {
 
     <E extends Enum<E>> E getEnumOrDefault(String key, Class<E> enumType, E defaultValue);
 
+    default <E extends Enum<E>> ParamResult<E> getEnumResult(String key, Class<E> enumType) {
+        return result(key, () -> getEnum(key, enumType));
+    }
+
     <T> List<T> getList(String key, Class<T> elementType);
 
     <T> List<T> getListOrDefault(String key, Class<T> elementType, List<T> defaultValue);
 
+    default <T> ParamResult<List<T>> getListResult(String key, Class<T> elementType) {
+        return result(key, () -> getList(key, elementType));
+    }
+
+    /**
+     * One value out of a JSON param, e.g. {@code $.limits.partnerX.rps}.
+     * Returns {@code null} when the path does not resolve.
+     */
+    default <T> T getJsonPath(String key, String path, Class<T> targetType) {
+        JsonPath compiled = JsonPath.compile(path);
+        Object node = compiled.evaluate(ParamTypeConverter.toJsonTree(key, get(key)));
+        return ParamTypeConverter.convertJsonNode(key, node, targetType);
+    }
+
+    /**
+     * Elements of a comma-separated list or JSON array as a hash set, built
+     * once per value and shared by every caller.
+     */
+    default LongHashSet getLongSet(String key) {
+        return LongHashSet.of(getLongArray(key));
+    }
+
+    default IntHashSet getIntSet(String key) {
+        return IntHashSet.of(getIntArray(key));
+    }
+
+    default Set<String> getStringSet(String key) {
+        List<String> values = getList(key, String.class);
+        if (values.contains(null)) throw new ParamTypeMismatchException(key, "TEXT[]", get(key));
+        return Set.copyOf(values);
+    }
+
+    /**
+     * Elements of a comma-separated list or JSON array, in order. Each call
+     * returns a new copy.
+     */
+    default long[] getLongArray(String key) {
+        List<Long> values = getList(key, Long.class);
+        long[] out = new long[values.size()];
+        for (int i = 0; i < out.length; i++) {
+            Long v = values.get(i);
+            if (v == null) throw new ParamTypeMismatchException(key, "NUMBER[]", get(key));
+            out[i] = v;
+        }
+        return out;
+    }
+
+    default int[] getIntArray(String key) {
+        List<Integer> values = getList(key, Integer.class);
+        int[] out = new int[values.size()];
+        for (int i = 0; i < out.length; i++) {
+            Integer v = values.get(i);
+            if (v == null) throw new ParamTypeMismatchException(key, "NUMBER[]", get(key));
+            out[i] = v;
+        }
+        return out;
+    }
+
     Map<String, Object> getMap(String key);
 
     Map<String, Object> getMapOrDefault(String key, Map<String, Object> defaultValue);
 
+    default ParamResult<Map<String, Object>> getMapResult(String key) {
+        return result(key, () -> getMap(key));
+    }
+
     List<Map<String, Object>> getMapList(String key);
 
     List<Map<String, Object>> getMapListOrDefault(
             String key, List<Map<String, Object>> defaultValue);
 
+    default ParamResult<List<Map<String, Object>>> getMapListResult(String key) {
+        return result(key, () -> getMapList(key));
+    }
+
     List<TagGroupViewDto> getAllGroupedByTag();
 
     TagGroupViewDto getByTag(String tagCode);
 
+    /**
+     * The params of a tag as a record, one param per component, matched by
+     * {@link com.example.systemparam.annotation.ParamKey} or by name. The
+     * record is built once and shared until a param in the tag changes.
+     * Returns {@code null} for an unknown tag. Implementations without
+     * record binding throw {@link UnsupportedOperationException}.
+     */
+    default <R extends Record> R bindTag(String tagCode, Class<R> recordType) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not bind records");
+    }
+
     void set(
             String key,
             String value,
@@ -67,6 +234,18 @@ public interface SystemParamService {
 
     void ensureTag(String code, String name, String description, Integer priority);
 
+    /**
+     * Ensures all tags as one unit of work. The default ensures them one by
+     * one.
+     */
+    default void ensureTags(List<TagDefinition> definitions) {
+        if (definitions == null) return;
+        for (TagDefinition d : definitions) {
+            if (d == null) throw new IllegalArgumentException("tag definition required");
+            ensureTag(d.code(), d.name(), d.description(), d.priority());
+        }
+    }
+
     void ensureParam(
             String key,
             String value,
@@ -84,4 +263,25 @@ public interface SystemParamService {
             String tagCode,
             Integer displayPriority
     );
+
+    /**
+     * Ensures all params as one unit of work; see {@link #ensureTags(List)}.
+     */
+    default void ensureParams(List<ParamDefinition> definitions) {
+        if (definitions == null) return;
+        for (ParamDefinition d : definitions) {
+            if (d == null) throw new IllegalArgumentException("param definition required");
+            ensureParam(d.key(), d.value(), d.description(), d.type(), d.tagCode(), d.displayPriority());
+        }
+    }
+
+    private static <T> ParamResult<T> result(String key, Supplier<T> read) {
+        try {
+            return ParamResult.found(key, read.get());
+        } catch (ParamNotFoundException e) {
+            return ParamResult.missing(key);
+        } catch (ParamTypeMismatchException e) {
+            return ParamResult.invalid(key, e);
+        }
+    }
 }
@@ -1,12 +1,20 @@
 package com.example.systemparam.service;
 
+import com.example.systemparam.collection.IntHashSet;
+import com.example.systemparam.collection.LongHashSet;
+import com.example.systemparam.converter.JsonPath;
 import com.example.systemparam.converter.ParamTypeConverter;
+import com.example.systemparam.domain.ParamChangeSet;
 import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.ParamDefinition;
 import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.domain.TagDefinition;
 import com.example.systemparam.domain.TagGroupDto;
 import com.example.systemparam.domain.TagGroupViewDto;
 import com.example.systemparam.exception.ParamNotFoundException;
 import com.example.systemparam.exception.ParamTypeMismatchException;
+import com.example.systemparam.metrics.InstrumentedSystemParamRepository;
+import com.example.systemparam.metrics.ParamMetrics;
 import com.example.systemparam.port.SystemParamRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -19,24 +27,47 @@ public final class SystemParams implements SystemParamService {
     private static final String UNGROUPED = "UNGROUPED";
     private static final ObjectMapper MAPPER = new ObjectMapper();
     private final SystemParamRepository repository;
+    private final ParamMetrics metrics;
+    // Read once so the disabled case costs a field test on the not-found path.
+    private final boolean metricsEnabled;
+    private final Object writeLock = new Object();
+    private volatile ParamSnapshot snapshot;
+    private boolean untracked;
+
+    // Guarded by writeLock like every publication.
+    private final ParamRefTracker refs = new ParamRefTracker();
 
     public SystemParams(SystemParamRepository repository) {
+        this(repository, ParamMetrics.NOOP);
+    }
+
+    /**
+     * Reports not-found reads, type mismatches and conversion times to
+     * {@code metrics}, and wraps {@code repository} in an
+     * {@link InstrumentedSystemParamRepository}. For the latency of each
+     * service call, wrap this instance in an
+     * {@link com.example.systemparam.metrics.InstrumentedSystemParamService}.
+     */
+    public SystemParams(SystemParamRepository repository, ParamMetrics metrics) {
         if (repository == null) throw new IllegalArgumentException("repository is required");
-        this.repository = repository;
+        if (metrics == null) throw new IllegalArgumentException("metrics is required");
+        this.metrics = metrics;
+        this.metricsEnabled = metrics.enabled();
+        this.repository = metricsEnabled && !(repository instanceof InstrumentedSystemParamRepository)
+                ? new InstrumentedSystemParamRepository(repository, metrics)
+                : repository;
     }
 
     @Override
     public String get(String key) {
-        SystemParamDto param = repository.findByKey(key);
-        if (param == null) throw new ParamNotFoundException(key);
-        return param.getValue();
+        return require(key).value();
     }
 
     @Override
     public Optional<String> getOptional(String key) {
-        SystemParamDto param = repository.findByKey(key);
-        if (param == null) return Optional.empty();
-        return Optional.ofNullable(param.getValue());
+        ParamEntry entry = lookup(key);
+        if (entry == null) return Optional.empty();
+        return Optional.ofNullable(entry.value());
     }
 
     @Override
@@ -44,20 +75,93 @@ public final class SystemParams implements SystemParamService {
         return getOptional(key).orElse(defaultValue);
     }
 
+    @Override
+    public Map<String, String> getAll(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) return Map.of();
+
+        ParamSnapshot current = snapshot();
+        LinkedHashMap<String, String> out = new LinkedHashMap<>(keys.size() * 2);
+        for (String key : keys) {
+            SystemParamDto param = current.find(key);
+            if (param != null) out.put(key, param.getValue());
+        }
+        return out;
+    }
+
     @Override
     public <T> T getAs(String key, Class<T> targetType) {
-        SystemParamDto param = repository.findByKey(key);
-        if (param == null) throw new ParamNotFoundException(key);
-        return ParamTypeConverter.convert(param, targetType);
+        ParamEntry entry = require(key);
+        try {
+            return entry.as(targetType);
+        } catch (ParamTypeMismatchException e) {
+            throw mismatch(e);
+        }
     }
 
     @Override
     public <T> T getAsOrDefault(String key, Class<T> targetType, T defaultValue) {
+        return getResult(key, targetType).orElse(defaultValue);
+    }
+
+    @Override
+    public <T> ParamResult<T> getResult(String key, Class<T> targetType) {
+        ParamEntry entry = lookup(key);
+        return entry == null ? ParamResult.missing(key) : counted(entry.resultAs(targetType));
+    }
+
+    @Override
+    public <T> Map<String, T> getAllAs(Collection<String> keys, Class<T> targetType) {
+        if (targetType == null) throw new IllegalArgumentException("targetType required");
+        if (keys == null || keys.isEmpty()) return Map.of();
+
+        ParamSnapshot current = snapshot();
+        LinkedHashMap<String, T> out = new LinkedHashMap<>(keys.size() * 2);
         try {
-            return getAs(key, targetType);
-        } catch (ParamNotFoundException | ParamTypeMismatchException e) {
-            return defaultValue;
+            for (String key : keys) {
+                ParamEntry entry = current.entry(key);
+                if (entry != null) out.put(key, entry.as(targetType));
+            }
+        } catch (ParamTypeMismatchException e) {
+            throw mismatch(e);
         }
+        return out;
+    }
+
+    @Override
+    public <T> ParamRef<T> ref(String key, Class<T> type, T defaultValue) {
+        if (key == null) throw new IllegalArgumentException("key required");
+        if (type == null) throw new IllegalArgumentException("type required");
+
+        ParamRef<T> ref = new ParamRef<>(key, type, defaultValue);
+        synchronized (writeLock) {
+            ref.resolve(snapshot());
+            refs.track(ref);
+        }
+        return ref;
+    }
+
+    @Override
+    public int getInt(String key, int defaultValue) {
+        ParamEntry entry = lookup(key);
+        return entry == null ? defaultValue : entry.asInt(defaultValue);
+    }
+
+    @Override
+    public long getLong(String key, long defaultValue) {
+        ParamEntry entry = lookup(key);
+        return entry == null ? defaultValue : entry.asLong(defaultValue);
+    }
+
+    @Override
+    public double getDouble(String key, double defaultValue) {
+        ParamEntry entry = lookup(key);
+        return entry == null ? defaultValue : entry.asDouble(defaultValue);
+    }
+
+    @Override
+    public boolean getBoolean(String key, boolean defaultValue) {
+        ParamEntry entry = lookup(key);
+        return entry == null ? defaultValue : entry.asBoolean(defaultValue);
     }
 
     @Override
@@ -67,194 +171,176 @@ public final class SystemParams implements SystemParamService {
 
     @Override
     public Duration getDurationOrDefault(String key, Duration defaultValue) {
-        try {
-            return getDuration(key);
-        } catch (ParamNotFoundException | ParamTypeMismatchException e) {
-            return defaultValue;
-        }
+        return getResult(key, Duration.class).orElse(defaultValue);
     }
 
     @Override
     public <E extends Enum<E>> E getEnum(String key, Class<E> enumType) {
-        SystemParamDto param = repository.findByKey(key);
-        if (param == null) throw new ParamNotFoundException(key);
-        return ParamTypeConverter.convertEnum(param, enumType);
+        ParamEntry entry = require(key);
+        try {
+            return entry.asEnum(enumType);
+        } catch (ParamTypeMismatchException e) {
+            throw mismatch(e);
+        }
     }
 
     @Override
     public <E extends Enum<E>> E getEnumOrDefault(String key, Class<E> enumType, E defaultValue) {
-        try {
-            return getEnum(key, enumType);
-        } catch (ParamNotFoundException | ParamTypeMismatchException e) {
-            return defaultValue;
-        }
+        return getEnumResult(key, enumType).orElse(defaultValue);
     }
 
     @Override
-    public <T> List<T> getList(String key, Class<T> elementType) {
-        SystemParamDto param = repository.findByKey(key);
-        if (param == null) throw new ParamNotFoundException(key);
-        return ParamTypeConverter.convertList(param, elementType);
+    public <E extends Enum<E>> ParamResult<E> getEnumResult(String key, Class<E> enumType) {
+        ParamEntry entry = lookup(key);
+        return entry == null ? ParamResult.missing(key) : counted(entry.resultEnum(enumType));
     }
 
     @Override
-    public <T> List<T> getListOrDefault(String key, Class<T> elementType, List<T> defaultValue) {
+    public <T> List<T> getList(String key, Class<T> elementType) {
+        ParamEntry entry = require(key);
         try {
-            return getList(key, elementType);
-        } catch (ParamNotFoundException | ParamTypeMismatchException e) {
-            return defaultValue;
+            return entry.asList(elementType);
+        } catch (ParamTypeMismatchException e) {
+            throw mismatch(e);
         }
     }
 
     @Override
-    public Map<String, Object> getMap(String key) {
-        return ParamTypeConverter.toMap(key, get(key));
+    public <T> List<T> getListOrDefault(String key, Class<T> elementType, List<T> defaultValue) {
+        return getListResult(key, elementType).orElse(defaultValue);
     }
 
     @Override
-    public Map<String, Object> getMapOrDefault(String key, Map<String, Object> defaultValue) {
+    public <T> ParamResult<List<T>> getListResult(String key, Class<T> elementType) {
+        ParamEntry entry = lookup(key);
+        return entry == null ? ParamResult.missing(key) : counted(entry.resultList(elementType));
+    }
+
+    @Override
+    public <T> T getJsonPath(String key, String path, Class<T> targetType) {
+        JsonPath compiled = JsonPath.compile(path);
+        ParamEntry entry = require(key);
         try {
-            return getMap(key);
-        } catch (ParamNotFoundException | ParamTypeMismatchException e) {
-            return defaultValue;
+            return entry.atPath(compiled, targetType);
+        } catch (ParamTypeMismatchException e) {
+            throw mismatch(e);
         }
     }
 
     @Override
-    public List<Map<String, Object>> getMapList(String key) {
-        return ParamTypeConverter.toMapList(key, get(key));
+    public LongHashSet getLongSet(String key) {
+        ParamEntry entry = require(key);
+        try {
+            return entry.asLongSet();
+        } catch (ParamTypeMismatchException e) {
+            throw mismatch(e);
+        }
     }
 
     @Override
-    public List<Map<String, Object>> getMapListOrDefault(String key, List<Map<String, Object>> defaultValue) {
+    public IntHashSet getIntSet(String key) {
+        ParamEntry entry = require(key);
         try {
-            return getMapList(key);
-        } catch (ParamNotFoundException | ParamTypeMismatchException e) {
-            return defaultValue;
+            return entry.asIntSet();
+        } catch (ParamTypeMismatchException e) {
+            throw mismatch(e);
         }
     }
 
     @Override
-    public List<TagGroupViewDto> getAllGroupedByTag() {
-        List<SystemParamDto> paramList = repository.findAllParams();
-        List<TagGroupDto> tagMetadata = repository.findAllTags();
-
-        LinkedHashMap<String, TagGroupViewDto> groups = new LinkedHashMap<>();
-
-        if (tagMetadata != null) {
-            for (TagGroupDto meta : tagMetadata) {
-                if (meta == null) continue;
-
-                String code = meta.getTagCode();
-                if (code == null || code.isBlank()) continue;
+    public Set<String> getStringSet(String key) {
+        ParamEntry entry = require(key);
+        try {
+            return entry.asStringSet();
+        } catch (ParamTypeMismatchException e) {
+            throw mismatch(e);
+        }
+    }
 
-                TagGroupViewDto g = new TagGroupViewDto();
-                g.setTagCode(code);
-                g.setTagName(meta.getTagName() == null ? code : meta.getTagName());
-                g.setDescription(meta.getDescription());
-                g.setPriority(meta.getPriority());
-                g.setParams(new ArrayList<>());
-                groups.put(code, g);
-            }
+    @Override
+    public long[] getLongArray(String key) {
+        ParamEntry entry = require(key);
+        try {
+            return entry.asLongArray();
+        } catch (ParamTypeMismatchException e) {
+            throw mismatch(e);
         }
+    }
 
-        if (paramList != null) {
-            for (SystemParamDto p : paramList) {
-                if (p == null) continue;
-
-                String tagCode = normalizeTagCode(p.getTagCode());
-                TagGroupViewDto g = groups.get(tagCode);
-
-                if (g == null) {
-                    g = new TagGroupViewDto();
-                    g.setTagCode(tagCode);
-                    g.setTagName(tagCode);
-                    g.setDescription(null);
-                    g.setPriority(Integer.MAX_VALUE);
-                    g.setParams(new ArrayList<>());
-                    groups.put(tagCode, g);
-                }
+    @Override
+    public int[] getIntArray(String key) {
+        ParamEntry entry = require(key);
+        try {
+            return entry.asIntArray();
+        } catch (ParamTypeMismatchException e) {
+            throw mismatch(e);
+        }
+    }
 
-                g.getParams().add(p);
-            }
+    @Override
+    public Map<String, Object> getMap(String key) {
+        ParamEntry entry = require(key);
+        try {
+            return entry.asMap();
+        } catch (ParamTypeMismatchException e) {
+            throw mismatch(e);
         }
+    }
 
-        ArrayList<TagGroupViewDto> out = new ArrayList<>(groups.values());
-        out.sort(Comparator.comparingInt(g -> g.getPriority() == null ? Integer.MAX_VALUE : g.getPriority()));
+    @Override
+    public Map<String, Object> getMapOrDefault(String key, Map<String, Object> defaultValue) {
+        return getMapResult(key).orElse(defaultValue);
+    }
 
-        for (TagGroupViewDto g : out) {
-            List<SystemParamDto> params = g.getParams();
-            if (params == null) continue;
+    @Override
+    public ParamResult<Map<String, Object>> getMapResult(String key) {
+        ParamEntry entry = lookup(key);
+        return entry == null ? ParamResult.missing(key) : counted(entry.resultMap());
+    }
 
-            params.sort(
-                    Comparator
-                            .comparingInt((SystemParamDto p) ->
-                                    p.getDisplayPriority() == null ? Integer.MAX_VALUE : p.getDisplayPriority()
-                            )
-                            .thenComparing(SystemParamDto::getKey, Comparator.nullsLast(String::compareTo))
-            );
+    @Override
+    public List<Map<String, Object>> getMapList(String key) {
+        ParamEntry entry = require(key);
+        try {
+            return entry.asMapList();
+        } catch (ParamTypeMismatchException e) {
+            throw mismatch(e);
         }
-
-        return out;
     }
 
     @Override
-    public TagGroupViewDto getByTag(String tagCode) {
-        String normalized = normalizeTagCode(tagCode);
-
-        List<SystemParamDto> paramList = repository.findAllParams();
-        List<TagGroupDto> tagMetadata = repository.findAllTags();
-
-        TagGroupViewDto view = null;
-
-        if (tagMetadata != null) {
-            for (TagGroupDto meta : tagMetadata) {
-                if (meta == null) continue;
-                if (safeEquals(normalizeTagCode(meta.getTagCode()), normalized)) {
-                    view = new TagGroupViewDto();
-                    view.setTagCode(normalized);
-                    view.setTagName(meta.getTagName() == null ? normalized : meta.getTagName());
-                    view.setDescription(meta.getDescription());
-                    view.setPriority(meta.getPriority());
-                    view.setParams(new ArrayList<>());
-                    break;
-                }
-            }
-        }
+    public List<Map<String, Object>> getMapListOrDefault(String key, List<Map<String, Object>> defaultValue) {
+        return getMapListResult(key).orElse(defaultValue);
+    }
 
-        ArrayList<SystemParamDto> collected = new ArrayList<>();
-        if (paramList != null) {
-            for (SystemParamDto p : paramList) {
-                if (p == null) continue;
-                if (safeEquals(normalizeTagCode(p.getTagCode()), normalized)) {
-                    collected.add(p);
-                }
-            }
-        }
+    @Override
+    public ParamResult<List<Map<String, Object>>> getMapListResult(String key) {
+        ParamEntry entry = lookup(key);
+        return entry == null ? ParamResult.missing(key) : counted(entry.resultMapList());
+    }
 
-        if (view == null && collected.isEmpty()) {
-            return null;
-        }
+    @Override
+    public List<TagGroupViewDto> getAllGroupedByTag() {
+        List<TagGroupEntry> groups = snapshot().groups();
 
-        if (view == null) {
-            view = new TagGroupViewDto();
-            view.setTagCode(normalized);
-            view.setTagName(normalized);
-            view.setDescription(null);
-            view.setPriority(Integer.MAX_VALUE);
-            view.setParams(new ArrayList<>());
-        }
+        ArrayList<TagGroupViewDto> out = new ArrayList<>(groups.size());
+        for (TagGroupEntry g : groups) out.add(g.toView());
+        return out;
+    }
 
-        collected.sort(
-                Comparator
-                        .comparingInt((SystemParamDto p) ->
-                                p.getDisplayPriority() == null ? Integer.MAX_VALUE : p.getDisplayPriority()
-                        )
-                        .thenComparing(SystemParamDto::getKey, Comparator.nullsLast(String::compareTo))
-        );
+    @Override
+    public TagGroupViewDto getByTag(String tagCode) {
+        TagGroupEntry group = snapshot().group(normalizeTagCode(tagCode));
+        return group == null ? null : group.toView();
+    }
 
-        view.setParams(collected);
-        return view;
+    @Override
+    public <R extends Record> R bindTag(String tagCode, Class<R> recordType) {
+        // Resolved before the lookup so an invalid record type fails even for unknown tags.
+        RecordBinder<R> binder = RecordBinder.of(recordType);
+        ParamSnapshot current = snapshot();
+        TagGroupEntry group = current.group(normalizeTagCode(tagCode));
+        return group == null ? null : group.bind(binder, current);
     }
 
     @Override
@@ -271,22 +357,29 @@ public final class SystemParams implements SystemParamService {
 
         String normalizedTag = normalizeTagCode(tagCode);
 
-        SystemParamDto dto = repository.findByKey(key);
-        if (dto == null) {
-            dto = new SystemParamDto();
-            dto.setKey(key);
-        }
+        synchronized (writeLock) {
+            ParamSnapshot current = snapshot();
+            SystemParamDto existing = current.find(key);
+            SystemParamDto dto;
+            if (existing == null) {
+                dto = new SystemParamDto();
+                dto.setKey(key);
+            } else {
+                dto = existing.copy();
+            }
 
-        String normalizedValue = normalizeValue(value, type);
-        validateWrite(key, normalizedValue, type);
+            String normalizedValue = normalizeValue(value, type);
+            validateWrite(key, normalizedValue, type);
 
-        dto.setValue(normalizedValue);
-        dto.setType(type);
-        dto.setTagCode(normalizedTag);
-        dto.setDisplayPriority(displayPriority);
-        dto.setDescription(description);
+            dto.setValue(normalizedValue);
+            dto.setType(type);
+            dto.setTagCode(normalizedTag);
+            dto.setDisplayPriority(displayPriority);
+            dto.setDescription(description);
 
-        repository.save(dto);
+            repository.save(dto);
+            publish(current.withParam(dto));
+        }
     }
 
 
@@ -306,15 +399,20 @@ public final class SystemParams implements SystemParamService {
     public void update(String key, Object value) {
         if (key == null || key.isBlank()) throw new IllegalArgumentException("key required");
 
-        SystemParamDto dto = repository.findByKey(key);
-        if (dto == null) throw new ParamNotFoundException(key);
+        synchronized (writeLock) {
+            ParamSnapshot current = snapshot();
+            SystemParamDto existing = current.find(key);
+            if (existing == null) throw new ParamNotFoundException(key);
 
-        ParamDataType type = dto.getType() == null ? ParamDataType.TEXT : dto.getType();
-        String normalizedValue = normalizeValue(value, type);
-        validateWrite(key, normalizedValue, type);
+            ParamDataType type = existing.getType() == null ? ParamDataType.TEXT : existing.getType();
+            String normalizedValue = normalizeValue(value, type);
+            validateWrite(key, normalizedValue, type);
 
-        dto.setValue(normalizedValue);
-        repository.save(dto);
+            SystemParamDto dto = existing.copy();
+            dto.setValue(normalizedValue);
+            repository.save(dto);
+            publish(current.withParam(dto));
+        }
     }
 
     @Override
@@ -334,16 +432,20 @@ public final class SystemParams implements SystemParamService {
     public void update(String key, String value) {
         if (key == null || key.isBlank()) throw new IllegalArgumentException("key required");
 
-        SystemParamDto dto = repository.findByKey(key);
-        if (dto == null) throw new ParamNotFoundException(key);
+        synchronized (writeLock) {
+            ParamSnapshot current = snapshot();
+            SystemParamDto existing = current.find(key);
+            if (existing == null) throw new ParamNotFoundException(key);
 
-        ParamDataType type = dto.getType() == null ? ParamDataType.TEXT : dto.getType();
-
-        String normalizedValue = normalizeValue(value, type);
-        validateWrite(key, normalizedValue, type);
+            ParamDataType type = existing.getType() == null ? ParamDataType.TEXT : existing.getType();
+            String normalizedValue = normalizeValue(value, type);
+            validateWrite(key, normalizedValue, type);
 
-        dto.setValue(normalizedValue);
-        repository.save(dto);
+            SystemParamDto dto = existing.copy();
+            dto.setValue(normalizedValue);
+            repository.save(dto);
+            publish(current.withParam(dto));
+        }
     }
 
     @Override
@@ -351,36 +453,39 @@ public final class SystemParams implements SystemParamService {
         String normalized = normalizeTagCode(code);
         if (normalized == null || normalized.isBlank()) throw new IllegalArgumentException("tagCode required");
 
-        List<TagGroupDto> all = repository.findAllTags();
-        TagGroupDto existing = null;
+        synchronized (writeLock) {
+            ParamSnapshot current = snapshot();
+            TagGroupDto changed = planTag(current.tag(normalized), normalized, name, description, priority);
 
-        if (all != null) {
-            for (TagGroupDto t : all) {
-                if (t == null) continue;
-                if (safeEquals(normalizeTagCode(t.getTagCode()), normalized)) {
-                    existing = t;
-                    break;
-                }
+            if (changed != null) {
+                repository.save(changed);
+                publish(current.withTag(normalized, changed));
             }
         }
+    }
 
-        if (existing == null) {
-            TagGroupDto created = new TagGroupDto();
-            created.setTagCode(normalized);
-            created.setTagName(name);
-            created.setDescription(description);
-            created.setPriority(priority);
-            repository.save(created);
-            return;
-        }
+    @Override
+    public void ensureTags(List<TagDefinition> definitions) {
+        if (definitions == null || definitions.isEmpty()) return;
 
-        boolean changed = false;
+        synchronized (writeLock) {
+            ParamSnapshot current = snapshot();
+            LinkedHashMap<String, TagGroupDto> pending = new LinkedHashMap<>();
 
-        if (!safeEquals(existing.getTagName(), name)) { existing.setTagName(name); changed = true; }
-        if (!safeEquals(existing.getDescription(), description)) { existing.setDescription(description); changed = true; }
-        if (!safeEquals(existing.getPriority(), priority)) { existing.setPriority(priority); changed = true; }
+            for (TagDefinition def : definitions) {
+                if (def == null) throw new IllegalArgumentException("tag definition required");
+                String normalized = normalizeTagCode(def.code());
 
-        if (changed) repository.save(existing);
+                TagGroupDto base = pending.containsKey(normalized) ? pending.get(normalized) : current.tag(normalized);
+                TagGroupDto changed = planTag(base, normalized, def.name(), def.description(), def.priority());
+                if (changed != null) pending.put(normalized, changed);
+            }
+
+            if (pending.isEmpty()) return;
+
+            repository.saveTags(pending.values());
+            publish(current.withTags(pending));
+        }
     }
 
     @Override
@@ -395,10 +500,56 @@ public final class SystemParams implements SystemParamService {
         if (key == null || key.isBlank()) throw new IllegalArgumentException("key required");
         if (type == null) throw new IllegalArgumentException("type required");
 
-        String normalizedTag = normalizeTagCode(tagCode);
-        SystemParamDto existing = repository.findByKey(key);
+        synchronized (writeLock) {
+            ParamSnapshot current = snapshot();
+            SystemParamDto changed = planParam(
+                    current.find(key), key, value, description, type, normalizeTagCode(tagCode), displayPriority);
 
-        if (existing == null) {
+            if (changed != null) {
+                repository.save(changed);
+                publish(current.withParam(changed));
+            }
+        }
+    }
+
+    @Override
+    public void ensureParams(List<ParamDefinition> definitions) {
+        if (definitions == null || definitions.isEmpty()) return;
+
+        synchronized (writeLock) {
+            ParamSnapshot current = snapshot();
+            LinkedHashMap<String, SystemParamDto> pending = new LinkedHashMap<>();
+
+            for (ParamDefinition def : definitions) {
+                if (def == null) throw new IllegalArgumentException("param definition required");
+                String key = def.key();
+                if (key == null || key.isBlank()) throw new IllegalArgumentException("key required");
+                if (def.type() == null) throw new IllegalArgumentException("type required");
+
+                SystemParamDto base = pending.containsKey(key) ? pending.get(key) : current.find(key);
+                SystemParamDto changed = planParam(
+                        base, key, normalizeValue(def.value(), def.type()), def.description(), def.type(),
+                        normalizeTagCode(def.tagCode()), def.displayPriority());
+                if (changed != null) pending.put(key, changed);
+            }
+
+            if (pending.isEmpty()) return;
+
+            repository.saveParams(pending.values());
+            publish(current.withParams(pending.values()));
+        }
+    }
+
+    private SystemParamDto planParam(
+            SystemParamDto found,
+            String key,
+            String value,
+            String description,
+            ParamDataType type,
+            String normalizedTag,
+            Integer displayPriority
+    ) {
+        if (found == null) {
             SystemParamDto created = new SystemParamDto();
             created.setKey(key);
             String normalizedValue = normalizeValue(value, type);
@@ -408,10 +559,10 @@ public final class SystemParams implements SystemParamService {
             created.setType(type);
             created.setTagCode(normalizedTag);
             created.setDisplayPriority(displayPriority);
-            repository.save(created);
-            return;
+            return created;
         }
 
+        SystemParamDto existing = found.copy();
         boolean changed = false;
 
         if (!safeEquals(existing.getDescription(), description)) { existing.setDescription(description); changed = true; }
@@ -426,7 +577,28 @@ public final class SystemParams implements SystemParamService {
         if (!safeEquals(normalizeTagCode(existing.getTagCode()), normalizedTag)) { existing.setTagCode(normalizedTag); changed = true; }
         if (!safeEquals(existing.getDisplayPriority(), displayPriority)) { existing.setDisplayPriority(displayPriority); changed = true; }
 
-        if (changed) repository.save(existing);
+        return changed ? existing : null;
+    }
+
+    private static TagGroupDto planTag(
+            TagGroupDto found, String normalized, String name, String description, Integer priority) {
+        if (found == null) {
+            TagGroupDto created = new TagGroupDto();
+            created.setTagCode(normalized);
+            created.setTagName(name);
+            created.setDescription(description);
+            created.setPriority(priority);
+            return created;
+        }
+
+        TagGroupDto existing = found.copy();
+        boolean changed = false;
+
+        if (!safeEquals(existing.getTagName(), name)) { existing.setTagName(name); changed = true; }
+        if (!safeEquals(existing.getDescription(), description)) { existing.setDescription(description); changed = true; }
+        if (!safeEquals(existing.getPriority(), priority)) { existing.setPriority(priority); changed = true; }
+
+        return changed ? existing : null;
     }
 
 
@@ -489,7 +661,32 @@ public final class SystemParams implements SystemParamService {
         }
     }
 
-    private static String normalizeTagCode(String tagCode) {
+    /**
+     * The entry for {@code key}, reporting a not-found read when there is none.
+     */
+    private ParamEntry lookup(String key) {
+        ParamEntry entry = snapshot().entry(key);
+        if (entry == null && metricsEnabled) metrics.notFound(key);
+        return entry;
+    }
+
+    private ParamEntry require(String key) {
+        ParamEntry entry = lookup(key);
+        if (entry == null) throw new ParamNotFoundException(key);
+        return entry;
+    }
+
+    private ParamTypeMismatchException mismatch(ParamTypeMismatchException e) {
+        if (metricsEnabled) metrics.typeMismatch(e.getKey());
+        return e;
+    }
+
+    private <T> ParamResult<T> counted(ParamResult<T> result) {
+        if (metricsEnabled && result.isInvalid()) metrics.typeMismatch(result.key());
+        return result;
+    }
+
+    static String normalizeTagCode(String tagCode) {
         if (tagCode == null || tagCode.isBlank()) return UNGROUPED;
         return tagCode.trim();
     }
@@ -501,4 +698,91 @@ public final class SystemParams implements SystemParamService {
     public SystemParamRepository repository() {
         return repository;
     }
+
+    /**
+     * Current snapshot; loaded from the repository on first use.
+     */
+    public ParamSnapshot snapshot() {
+        ParamSnapshot current = snapshot;
+        return current != null ? current : loadSnapshot();
+    }
+
+    /**
+     * Reloads every parameter and tag from the repository and publishes the
+     * result as a new snapshot version.
+     */
+    public ParamSnapshot refresh() {
+        synchronized (writeLock) {
+            ParamSnapshot current = snapshot;
+            long version = current == null ? 1L : current.version() + 1;
+            // Read the revision first: rows written meanwhile are fetched again by the next sync.
+            long revision = repositoryRevision();
+            ParamSnapshot next = ParamSnapshot.reload(
+                    current, version, revision, repository.findAllParams(), repository.findAllTags(), metrics);
+            publish(next);
+            return next;
+        }
+    }
+
+    /**
+     * Catches up with writes made through other instances by applying only
+     * the params and tags changed since {@link ParamSnapshot#revision()}.
+     * When nothing changed this costs the repository's revision lookup alone.
+     * Falls back to {@link #refresh()} when the repository does not track
+     * revisions. Returns {@code true} if a new snapshot was published.
+     */
+    public boolean sync() {
+        synchronized (writeLock) {
+            ParamSnapshot current = snapshot();
+            if (current.revision() < 0) {
+                refresh();
+                return true;
+            }
+
+            ParamChangeSet changes = repository.findChangedSince(current.revision());
+            if (changes.revision() == current.revision()) return false;
+            if (changes.revision() < current.revision()) {
+                // The counter went backwards (restored database); nothing in the delta can be trusted.
+                refresh();
+                return true;
+            }
+
+            LinkedHashMap<String, TagGroupDto> tags = new LinkedHashMap<>();
+            for (TagGroupDto t : changes.tags()) {
+                if (t == null || t.getTagCode() == null || t.getTagCode().isBlank()) continue;
+                tags.put(normalizeTagCode(t.getTagCode()), t);
+            }
+            ArrayList<SystemParamDto> params = new ArrayList<>(changes.params().size());
+            for (SystemParamDto p : changes.params()) {
+                if (p != null && p.getKey() != null) params.add(p);
+            }
+
+            publish(current.withChanges(tags, params, changes.revision()));
+            return true;
+        }
+    }
+
+    private ParamSnapshot loadSnapshot() {
+        synchronized (writeLock) {
+            ParamSnapshot current = snapshot;
+            if (current != null) return current;
+            return refresh();
+        }
+    }
+
+    private long repositoryRevision() {
+        if (untracked) return -1L;
+        try {
+            return repository.currentRevision();
+        } catch (UnsupportedOperationException e) {
+            untracked = true;
+            return -1L;
+        }
+    }
+
+    private void publish(ParamSnapshot next) {
+        ParamSnapshot previous = snapshot;
+        snapshot = next;
+        refs.update(previous, next);
+    }
 }
@@ -0,0 +1,136 @@
+package com.example.systemparam.service;
+
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.domain.TagGroupDto;
+import com.example.systemparam.domain.TagGroupViewDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One tag of the grouped view inside a {@link ParamSnapshot}: its metadata (if
+ * any) and its params, already sorted by display priority and key. Entries
+ * are immutable; a write replaces only the groups it touches.
+ */
+final class TagGroupEntry {
+
+    static final Comparator<SystemParamDto> PARAM_ORDER = Comparator
+            .comparingInt((SystemParamDto p) ->
+                    p.getDisplayPriority() == null ? Integer.MAX_VALUE : p.getDisplayPriority()
+            )
+            .thenComparing(SystemParamDto::getKey, Comparator.nullsLast(String::compareTo));
+
+    // Sorted stably, so tags with equal priority keep their repository order.
+    static final Comparator<TagGroupEntry> GROUP_ORDER = Comparator.comparingInt(TagGroupEntry::sortPriority);
+
+    private final String code;
+    private final TagGroupDto meta;
+    private final List<SystemParamDto> params;
+
+    // Records bound from these params, by record type. Any param write in
+    // the tag replaces the entry, and these with it.
+    private volatile ConcurrentHashMap<Class<?>, Record> bound;
+
+    private TagGroupEntry(String code, TagGroupDto meta, List<SystemParamDto> params) {
+        this.code = code;
+        this.meta = meta;
+        this.params = params;
+    }
+
+    static TagGroupEntry of(String code, TagGroupDto meta, List<SystemParamDto> unsortedParams) {
+        ArrayList<SystemParamDto> sorted = new ArrayList<>(unsortedParams);
+        sorted.sort(PARAM_ORDER);
+        return new TagGroupEntry(code, meta, Collections.unmodifiableList(sorted));
+    }
+
+    String code() {
+        return code;
+    }
+
+    TagGroupDto meta() {
+        return meta;
+    }
+
+    List<SystemParamDto> params() {
+        return params;
+    }
+
+    boolean isEmpty() {
+        return meta == null && params.isEmpty();
+    }
+
+    TagGroupEntry withMeta(TagGroupDto nextMeta) {
+        TagGroupEntry next = new TagGroupEntry(code, nextMeta, params);
+        next.bound = bound;
+        return next;
+    }
+
+    /**
+     * The params of this group bound to the binder's record type, built on
+     * first use and shared until the group is replaced. Records with a
+     * {@code @ParamKey} missing from the group are rebuilt on every call.
+     */
+    <R extends Record> R bind(RecordBinder<R> binder, ParamSnapshot snapshot) {
+        Class<R> type = binder.type();
+        ConcurrentHashMap<Class<?>, Record> m = bound;
+        if (m != null) {
+            Record hit = m.get(type);
+            if (hit != null) return type.cast(hit);
+        }
+
+        R record = binder.bind(this, snapshot);
+        if (!binder.explicitKeysIn(this)) return record;
+        if (m == null) {
+            synchronized (this) {
+                m = bound;
+                if (m == null) {
+                    m = new ConcurrentHashMap<>(4);
+                    bound = m;
+                }
+            }
+        }
+        Record prev = m.putIfAbsent(type, record);
+        return prev == null ? record : type.cast(prev);
+    }
+
+    TagGroupEntry withParam(SystemParamDto param) {
+        int at = Collections.binarySearch(params, param, PARAM_ORDER);
+        ArrayList<SystemParamDto> next = new ArrayList<>(params.size() + 1);
+        next.addAll(params);
+        if (at >= 0) {
+            next.set(at, param);
+        } else {
+            next.add(-(at + 1), param);
+        }
+        return new TagGroupEntry(code, meta, Collections.unmodifiableList(next));
+    }
+
+    TagGroupEntry withoutParam(SystemParamDto param) {
+        int at = Collections.binarySearch(params, param, PARAM_ORDER);
+        if (at < 0) return this;
+
+        ArrayList<SystemParamDto> next = new ArrayList<>(params);
+        next.remove(at);
+        return new TagGroupEntry(code, meta, Collections.unmodifiableList(next));
+    }
+
+    TagGroupViewDto toView() {
+        if (meta == null) {
+            return TagGroupViewDto.readOnly(code, code, null, Integer.MAX_VALUE, params);
+        }
+        return TagGroupViewDto.readOnly(
+                code,
+                meta.getTagName() == null ? code : meta.getTagName(),
+                meta.getDescription(),
+                meta.getPriority(),
+                params);
+    }
+
+    private int sortPriority() {
+        if (meta == null || meta.getPriority() == null) return Integer.MAX_VALUE;
+        return meta.getPriority();
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.systemparam.cache;
+
+import com.example.systemparam.domain.ParamChangeSet;
+import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.domain.TagGroupDto;
+import com.example.systemparam.port.SystemParamRepository;
+import com.example.systemparam.service.SystemParams;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingSystemParamRepositoryTest {
+
+    static class CountingRepo implements SystemParamRepository {
+        final Map<String, SystemParamDto> params = new ConcurrentHashMap<>();
+        final Map<String, TagGroupDto> tags = new ConcurrentHashMap<>();
+        volatile int findByKeyCalls = 0;
+        volatile int findAllParamsCalls = 0;
+        volatile int saveParamCalls = 0;
+
+        @Override
+        public SystemParamDto findByKey(String key) {
+            findByKeyCalls++;
+            SystemParamDto p = params.get(key);
+            return p == null ? null : p.copy();
+        }
+
+        @Override
+        public List<SystemParamDto> findAllParams() {
+            findAllParamsCalls++;
+            List<SystemParamDto> out = new ArrayList<>();
+            for (SystemParamDto p : params.values()) out.add(p.copy());
+            return out;
+        }
+
+        @Override
+        public List<TagGroupDto> findAllTags() {
+            List<TagGroupDto> out = new ArrayList<>();
+            for (TagGroupDto t : tags.values()) out.add(t.copy());
+            return out;
+        }
+
+        @Override
+        public void save(SystemParamDto param) {
+            saveParamCalls++;
+            params.put(param.getKey(), param.copy());
+        }
+
+        @Override
+        public void save(TagGroupDto tag) {
+            tags.put(tag.getTagCode(), tag.copy());
+        }
+    }
+
+    private static SystemParamDto dto(String key, String value) {
+        SystemParamDto d = new SystemParamDto();
+        d.setKey(key);
+        d.setValue(value);
+        d.setType(ParamDataType.TEXT);
+        return d;
+    }
+
+    @Test
+    void loads_once_and_serves_reads_from_memory() {
+        CountingRepo backing = new CountingRepo();
+        backing.save(dto("a", "1"));
+        backing.save(dto("b", "2"));
+
+        try (CachingSystemParamRepository cache = new CachingSystemParamRepository(backing)) {
+            for (int i = 0; i < 10; i++) {
+                assertEquals("1", cache.findByKey("a").getValue());
+                assertEquals("2", cache.findByKey("b").getValue());
+            }
+
+            assertEquals(1, backing.findAllParamsCalls);
+            assertEquals(0, backing.findByKeyCalls);
+            assertEquals(20, cache.hitCount());
+            assertEquals(0, cache.missCount());
+        }
+    }
+
+    @Test
+    void miss_reads_through_and_populates_cache() {
+        CountingRepo backing = new CountingRepo();
+
+        try (CachingSystemParamRepository cache = new CachingSystemParamRepository(backing)) {
+            cache.findAllParams();
+            backing.params.put("late", dto("late", "x"));
+
+            assertEquals("x", cache.findByKey("late").getValue());
+            assertEquals("x", cache.findByKey("late").getValue());
+
+            assertEquals(1, backing.findByKeyCalls);
+            assertEquals(1, cache.missCount());
+            assertEquals(1, cache.hitCount());
+        }
+    }
+
+    @Test
+    void absent_keys_are_answered_from_memory_until_saved_or_refreshed() {
+        CountingRepo backing = new CountingRepo();
+
+        try (CachingSystemParamRepository cache = new CachingSystemParamRepository(backing)) {
+            for (int i = 0; i < 5; i++) assertNull(cache.findByKey("optional"));
+            assertEquals(1, backing.findByKeyCalls);
+            assertEquals(4, cache.absentHitCount());
+
+            cache.save(dto("optional", "v"));
+            assertEquals("v", cache.findByKey("optional").getValue());
+
+            assertNull(cache.findByKey("other"));
+            backing.params.put("other", dto("other", "x"));
+            assertNull(cache.findByKey("other"), "external insert is not seen before a refresh");
+            assertTrue(cache.findByKeys(List.of("other")).isEmpty());
+
+            cache.refresh();
+            assertEquals("x", cache.findByKey("other").getValue());
+        }
+    }
+
+    @Test
+    void findByKeys_reads_only_the_misses_through() {
+        CountingRepo backing = new CountingRepo();
+        backing.save(dto("a", "1"));
+
+        try (CachingSystemParamRepository cache = new CachingSystemParamRepository(backing)) {
+            cache.findAllParams();
+            backing.params.put("b", dto("b", "2"));
+
+            List<SystemParamDto> found = cache.findByKeys(List.of("a", "b", "c"));
+            assertEquals(2, found.size());
+            assertEquals(1, cache.hitCount());
+            assertEquals(2, cache.missCount());
+            assertEquals(2, backing.findByKeyCalls, "default findByKeys loops over the misses only");
+
+            assertEquals("2", cache.findByKey("b").getValue());
+            assertEquals(2, backing.findByKeyCalls);
+        }
+    }
+
+    @Test
+    void save_writes_through_and_updates_cache() {
+        CountingRepo backing = new CountingRepo();
+
+        try (CachingSystemParamRepository cache = new CachingSystemParamRepository(backing)) {
+            cache.save(dto("k", "v1"));
+            assertEquals(1, backing.saveParamCalls);
+            assertEquals("v1", backing.params.get("k").getValue());
+            assertEquals("v1", cache.findByKey("k").getValue());
+
+            cache.save(dto("k", "v2"));
+            assertEquals("v2", cache.findByKey("k").getValue());
+            assertEquals(0, backing.findByKeyCalls);
+        }
+    }
+
+    @Test
+    void returned_dtos_do_not_alias_cached_state() {
+        CountingRepo backing = new CountingRepo();
+        backing.save(dto("k", "v"));
+
+        try (CachingSystemParamRepository cache = new CachingSystemParamRepository(backing)) {
+            cache.findByKey("k").setValue("mutated");
+            cache.findAllParams().get(0).setValue("mutated");
+
+            assertEquals("v", cache.findByKey("k").getValue());
+        }
+    }
+
+    @Test
+    void refresh_picks_up_external_changes() {
+        CountingRepo backing = new CountingRepo();
+        backing.save(dto("k", "v1"));
+
+        try (CachingSystemParamRepository cache = new CachingSystemParamRepository(backing)) {
+            assertEquals("v1", cache.findByKey("k").getValue());
+
+            backing.params.put("k", dto("k", "v2"));
+            assertEquals("v1", cache.findByKey("k").getValue());
+
+            cache.refresh();
+            assertEquals("v2", cache.findByKey("k").getValue());
+        }
+    }
+
+    @Test
+    void scheduled_refresh_runs_in_background() throws InterruptedException {
+        CountingRepo backing = new CountingRepo();
+        backing.save(dto("k", "v1"));
+
+        try (CachingSystemParamRepository cache =
+                     new CachingSystemParamRepository(backing, Duration.ofMillis(20))) {
+            assertEquals("v1", cache.findByKey("k").getValue());
+            backing.params.put("k", dto("k", "v2"));
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (!"v2".equals(cache.findByKey("k").getValue()) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals("v2", cache.findByKey("k").getValue());
+            assertTrue(cache.refreshCount() >= 2);
+        }
+    }
+
+    @Test
+    void works_underneath_system_params() {
+        CountingRepo backing = new CountingRepo();
+
+        try (CachingSystemParamRepository cache = new CachingSystemParamRepository(backing)) {
+            SystemParams sp = new SystemParams(cache);
+            sp.ensureTag("A", "Group A", null, 1);
+            sp.set("n", "5", ParamDataType.NUMBER, "A", 1, null);
+            sp.update("n", "6");
+
+            assertEquals(6, sp.getAs("n", Integer.class));
+            assertEquals("6", backing.params.get("n").getValue());
+            assertEquals(0, backing.findByKeyCalls);
+        }
+    }
+
+    @Test
+    void sync_applies_the_delta_without_a_full_reload() {
+        CountingRepo backing = new CountingRepo() {
+            long revision = 0;
+            final Map<String, Long> written = new ConcurrentHashMap<>();
+
+            @Override
+            public void save(SystemParamDto param) {
+                super.save(param);
+                written.put(param.getKey(), ++revision);
+            }
+
+            @Override
+            public long currentRevision() {
+                return revision;
+            }
+
+            @Override
+            public ParamChangeSet findChangedSince(long since) {
+                List<SystemParamDto> changed = new ArrayList<>();
+                written.forEach((k, r) -> { if (r > since) changed.add(params.get(k).copy()); });
+                return new ParamChangeSet(revision, changed, List.of());
+            }
+        };
+        backing.save(dto("a", "1"));
+        backing.save(dto("b", "2"));
+
+        try (CachingSystemParamRepository cache = new CachingSystemParamRepository(backing)) {
+            assertEquals("1", cache.findByKey("a").getValue());
+            backing.save(dto("a", "10"));
+
+            cache.sync();
+
+            assertEquals("10", cache.findByKey("a").getValue());
+            assertEquals("2", cache.findByKey("b").getValue());
+            assertEquals(1, backing.findAllParamsCalls);
+            assertEquals(1, cache.refreshCount());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.systemparam.collection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntHashSetTest {
+
+    @Test
+    void contains_members_only() {
+        IntHashSet set = IntHashSet.of(0, 3, -3, Integer.MIN_VALUE, 3);
+
+        assertEquals(4, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-3));
+        assertTrue(set.contains(Integer.MIN_VALUE));
+        assertFalse(set.contains(4));
+        assertFalse(IntHashSet.of(1).contains(0));
+    }
+
+    @Test
+    void handles_many_values() {
+        IntHashSet set = IntHashSet.of(java.util.stream.IntStream.range(0, 50_000).map(i -> i * 1024).toArray());
+
+        assertEquals(50_000, set.size());
+        for (int i = 0; i < 50_000; i++) assertTrue(set.contains(i * 1024));
+        assertFalse(set.contains(1023));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.systemparam.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+
+    @Test
+    void contains_members_only() {
+        LongHashSet set = LongHashSet.of(5, -7, Long.MAX_VALUE, Long.MIN_VALUE, 5);
+
+        assertEquals(4, set.size());
+        assertTrue(set.contains(5));
+        assertTrue(set.contains(-7));
+        assertTrue(set.contains(Long.MAX_VALUE));
+        assertTrue(set.contains(Long.MIN_VALUE));
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(6));
+    }
+
+    @Test
+    void zero_is_a_regular_member() {
+        LongHashSet set = LongHashSet.of(0, 0, 1);
+
+        assertEquals(2, set.size());
+        assertTrue(set.contains(0));
+        long[] members = set.toArray();
+        Arrays.sort(members);
+        assertArrayEquals(new long[]{0, 1}, members);
+    }
+
+    @Test
+    void handles_many_colliding_values() {
+        long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) values[i] = (long) i << 32;
+        LongHashSet set = LongHashSet.of(values);
+
+        assertEquals(values.length, set.size());
+        for (long v : values) assertTrue(set.contains(v));
+        assertFalse(set.contains(1));
+        assertFalse(set.contains(-1L << 32));
+    }
+
+    @Test
+    void empty_and_equality() {
+        assertTrue(LongHashSet.of().isEmpty());
+        assertFalse(LongHashSet.empty().contains(0));
+        assertEquals(LongHashSet.of(1, 2, 3), LongHashSet.of(3, 2, 1, 1));
+        assertEquals(LongHashSet.of(1, 2, 3).hashCode(), LongHashSet.of(3, 2, 1).hashCode());
+        assertNotEquals(LongHashSet.of(1, 2), LongHashSet.of(1, 3));
+        assertNotEquals(LongHashSet.of(0, 1), LongHashSet.of(1, 2));
+    }
+}
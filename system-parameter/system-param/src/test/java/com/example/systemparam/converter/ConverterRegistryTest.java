@@ -0,0 +1,147 @@
+package com.example.systemparam.converter;
+
+import com.example.systemparam.domain.DataSize;
+import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.exception.ParamTypeMismatchException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConverterRegistryTest {
+
+    record Percent(int value) {
+    }
+
+    record Remote(String value) {
+    }
+
+    record Broken(String value) {
+    }
+
+    private static SystemParamDto dto(String key, String value, ParamDataType type) {
+        SystemParamDto d = new SystemParamDto();
+        d.setKey(key);
+        d.setValue(value);
+        d.setType(type);
+        return d;
+    }
+
+    @Test
+    void built_in_text_conversions() {
+        assertTrue(ParamTypeConverter.convert(dto("p", "^a+$", ParamDataType.TEXT), Pattern.class)
+                .matcher("aaa").matches());
+        assertEquals(URI.create("https://example.com/x"),
+                ParamTypeConverter.convert(dto("u", " https://example.com/x ", ParamDataType.TEXT), URI.class));
+        assertArrayEquals(new byte[]{10, 0, 0, 1},
+                ParamTypeConverter.convert(dto("ip", "10.0.0.1", ParamDataType.TEXT), InetAddress.class).getAddress());
+        assertEquals(LocalTime.of(23, 30),
+                ParamTypeConverter.convert(dto("t", "23:30", ParamDataType.TEXT), LocalTime.class));
+        assertEquals(Period.ofDays(14),
+                ParamTypeConverter.convert(dto("r", "P14D", ParamDataType.TEXT), Period.class));
+        assertEquals("2024/01/02", ParamTypeConverter.convert(dto("f", "yyyy/MM/dd", ParamDataType.TEXT),
+                DateTimeFormatter.class).format(LocalDate.of(2024, 1, 2)));
+        assertEquals(DataSize.ofMegabytes(64),
+                ParamTypeConverter.convert(dto("s", "64MB", ParamDataType.TEXT), DataSize.class));
+    }
+
+    @Test
+    void numbers_and_lists_fall_back_to_registered_converters() {
+        assertEquals(DataSize.ofBytes(4096),
+                ParamTypeConverter.convert(dto("s", "4096", ParamDataType.NUMBER), DataSize.class));
+        assertEquals(List.of(LocalTime.of(8, 0), LocalTime.of(18, 0)),
+                ParamTypeConverter.convertList(dto("l", "08:00, 18:00", ParamDataType.TEXT), LocalTime.class));
+        assertEquals(List.of(DataSize.ofBytes(4096), DataSize.ofBytes(8192)),
+                ParamTypeConverter.convertList(dto("s", "4096, 8192", ParamDataType.NUMBER), DataSize.class));
+        assertEquals(List.of(DataSize.ofBytes(4096)),
+                ParamTypeConverter.convertList(dto("s", "4096", ParamDataType.NUMBER), DataSize.class));
+        assertThrows(ParamTypeMismatchException.class,
+                () -> ParamTypeConverter.convertList(dto("s", "4096, big", ParamDataType.NUMBER), DataSize.class));
+        assertThrows(ParamTypeMismatchException.class,
+                () -> ParamTypeConverter.convertList(dto("n", "12", ParamDataType.NUMBER), LocalTime.class));
+    }
+
+    @Test
+    void bad_values_and_unknown_types_throw_mismatch() {
+        ParamTypeMismatchException e = assertThrows(ParamTypeMismatchException.class,
+                () -> ParamTypeConverter.convert(dto("p", "(", ParamDataType.TEXT), Pattern.class));
+        assertEquals("PATTERN", e.getExpected());
+
+        assertThrows(ParamTypeMismatchException.class,
+                () -> ParamTypeConverter.convert(dto("t", "25:00", ParamDataType.TEXT), LocalTime.class));
+        assertThrows(ParamTypeMismatchException.class,
+                () -> ParamTypeConverter.convert(dto("x", "1", ParamDataType.TEXT), StringBuilder.class));
+        assertThrows(ParamTypeMismatchException.class,
+                () -> ParamTypeConverter.convert(dto("n", "12", ParamDataType.NUMBER), LocalTime.class));
+    }
+
+    @Test
+    void custom_converters_can_be_registered() {
+        assertFalse(ConverterRegistry.supports(Percent.class));
+
+        ConverterRegistry.register(Percent.class, raw -> new Percent(Integer.parseInt(raw.trim().replace("%", ""))));
+
+        assertTrue(ConverterRegistry.supports(Percent.class));
+        assertEquals(new Percent(15), ParamTypeConverter.convert(dto("pct", "15%", ParamDataType.TEXT), Percent.class));
+        assertThrows(ParamTypeMismatchException.class,
+                () -> ParamTypeConverter.convert(dto("pct", "lots", ParamDataType.TEXT), Percent.class));
+    }
+
+    @Test
+    void ip_addresses_must_be_literals() {
+        assertArrayEquals(new byte[16],
+                ParamTypeConverter.convert(dto("ip", "::", ParamDataType.TEXT), InetAddress.class).getAddress());
+        assertTrue(ParamTypeConverter.convert(dto("ip", " [::1] ", ParamDataType.TEXT), InetAddress.class)
+                .isLoopbackAddress());
+
+        for (String raw : new String[]{"localhost", "example.com", "1.2.3", "256.0.0.1", "1.2.3.4.5", "01234.1.1.1"}) {
+            ParamTypeMismatchException e = assertThrows(ParamTypeMismatchException.class,
+                    () -> ParamTypeConverter.convert(dto("ip", raw, ParamDataType.TEXT), InetAddress.class), raw);
+            assertEquals("INETADDRESS", e.getExpected());
+            assertInstanceOf(IllegalArgumentException.class, e.getCause(), raw);
+        }
+    }
+
+    @Test
+    void converter_exceptions_are_kept_as_the_cause() {
+        ParamTypeMismatchException e = assertThrows(ParamTypeMismatchException.class,
+                () -> ParamTypeConverter.convert(dto("u", "a b", ParamDataType.TEXT), URI.class));
+        assertInstanceOf(URISyntaxException.class, e.getCause());
+
+        ConverterRegistry.register(Remote.class, raw -> {
+            throw new IOException("unreachable");
+        });
+        assertThrows(UncheckedIOException.class,
+                () -> ParamTypeConverter.convert(dto("r", "x", ParamDataType.TEXT), Remote.class));
+
+        ConverterRegistry.register(Broken.class, raw -> {
+            throw new IllegalStateException("bug");
+        });
+        assertThrows(IllegalStateException.class,
+                () -> ParamTypeConverter.convert(dto("b", "x", ParamDataType.TEXT), Broken.class));
+    }
+
+    @Test
+    void data_size_parsing() {
+        assertEquals(512, DataSize.parse("512").toBytes());
+        assertEquals(64 * 1024, DataSize.parse("64kb").toBytes());
+        assertEquals(2, DataSize.parse(" 2 GB ").toGigabytes());
+        assertEquals(1024L * 1024 * 1024 * 1024, DataSize.parse("1TB").toBytes());
+        assertThrows(IllegalArgumentException.class, () -> DataSize.parse("MB"));
+        assertThrows(IllegalArgumentException.class, () -> DataSize.parse("1.5MB"));
+        assertThrows(IllegalArgumentException.class, () -> DataSize.parse("10PB"));
+        assertThrows(IllegalArgumentException.class, () -> DataSize.parse("99999999999TB"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.systemparam.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurationParserTest {
+
+    @Test
+    void parses_iso_8601() {
+        assertEquals(Duration.ofMinutes(15), DurationParser.parse("PT15M"));
+        assertEquals(Duration.ofDays(1).plusHours(2), DurationParser.parse(" P1DT2H "));
+        assertEquals(Duration.ofMillis(1500), DurationParser.parse("pt1.5s"));
+        assertEquals(Duration.ofMinutes(-5), DurationParser.parse("-PT5M"));
+    }
+
+    @Test
+    void parses_single_units_and_bare_millis() {
+        assertEquals(Duration.ofMillis(500), DurationParser.parse("500ms"));
+        assertEquals(Duration.ofSeconds(30), DurationParser.parse("30s"));
+        assertEquals(Duration.ofSeconds(30), DurationParser.parse(" 30 S "));
+        assertEquals(Duration.ofMinutes(2), DurationParser.parse("2m"));
+        assertEquals(Duration.ofHours(3), DurationParser.parse("3h"));
+        assertEquals(Duration.ofDays(7), DurationParser.parse("7d"));
+        assertEquals(Duration.ofMillis(1500), DurationParser.parse("1500"));
+        assertEquals(Duration.ofMillis(-5), DurationParser.parse("-5"));
+        assertEquals(Duration.ZERO, DurationParser.parse("   "));
+    }
+
+    @Test
+    void parses_compound_forms() {
+        assertEquals(Duration.ofMinutes(90), DurationParser.parse("1h30m"));
+        assertEquals(Duration.ofMillis(135_250), DurationParser.parse("2m 15s 250ms"));
+        assertEquals(Duration.ofDays(1).plusMinutes(1).plusMillis(1), DurationParser.parse("1d1m1ms"));
+        assertEquals(Duration.ofMinutes(-90), DurationParser.parse("-1h 30m"));
+    }
+
+    @Test
+    void rejects_malformed_input_without_throwing() {
+        assertNull(DurationParser.parse("abc"));
+        assertNull(DurationParser.parse("5x"));
+        assertNull(DurationParser.parse("5min"));
+        assertNull(DurationParser.parse("1h 30"));
+        assertNull(DurationParser.parse("h"));
+        assertNull(DurationParser.parse("-"));
+        assertNull(DurationParser.parse("PT"));
+        assertNull(DurationParser.parse("1.5s"));
+        assertNull(DurationParser.parse("99999999999999999999"));
+        assertNull(DurationParser.parse(null));
+    }
+
+    @Test
+    void totals_past_long_millis_use_the_full_duration_range() {
+        assertEquals(Duration.ofDays(9_999_999_999_999L), DurationParser.parse("9999999999999d"));
+        assertEquals(Duration.ofDays(-9_999_999_999_999L).minusHours(1), DurationParser.parse("-9999999999999d 1h"));
+        assertEquals(Duration.ofDays(200_000_000_000L).plusMillis(5), DurationParser.parse("200000000000d5ms"));
+        assertThrows(ArithmeticException.class, () -> DurationParser.parse("9999999999999999d"));
+        assertEquals(Duration.ofSeconds(Long.MAX_VALUE), DurationParser.parse("9223372036854775807s"));
+        assertThrows(ArithmeticException.class, () -> DurationParser.parse("9223372036854775807s 1s"));
+    }
+}
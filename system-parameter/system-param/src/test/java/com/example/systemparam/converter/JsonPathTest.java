@@ -0,0 +1,41 @@
+package com.example.systemparam.converter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonPathTest {
+
+    private static final Object TREE = ParamTypeConverter.toJsonTree("k",
+            "{\"limits\":{\"partnerX\":{\"rps\":50}},\"routes\":[{\"path\":\"/a\"},{\"path\":\"/b\"}],"
+                    + "\"odd key\":{\"x.y\":true}}");
+
+    @Test
+    void evaluates_member_and_index_steps() {
+        assertEquals(50, JsonPath.compile("$.limits.partnerX.rps").evaluate(TREE));
+        assertEquals(50, JsonPath.compile("limits.partnerX.rps").evaluate(TREE));
+        assertEquals("/b", JsonPath.compile("$.routes[1].path").evaluate(TREE));
+        assertEquals("/a", JsonPath.compile("$.routes[0]['path']").evaluate(TREE));
+        assertEquals(true, JsonPath.compile("$['odd key'][\"x.y\"]").evaluate(TREE));
+        assertSame(TREE, JsonPath.compile("$").evaluate(TREE));
+    }
+
+    @Test
+    void unresolved_steps_yield_null() {
+        assertNull(JsonPath.compile("$.limits.partnerY.rps").evaluate(TREE));
+        assertNull(JsonPath.compile("$.routes[5].path").evaluate(TREE));
+        assertNull(JsonPath.compile("$.limits[0]").evaluate(TREE));
+        assertNull(JsonPath.compile("$.routes.path").evaluate(TREE));
+    }
+
+    @Test
+    void compiled_paths_are_cached_and_bad_syntax_is_rejected() {
+        assertSame(JsonPath.compile("$.a.b"), JsonPath.compile("$.a.b"));
+
+        assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.a."));
+        assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.a[x]"));
+        assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.a['b"));
+        assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$a"));
+        assertThrows(IllegalArgumentException.class, () -> JsonPath.compile(null));
+    }
+}
@@ -85,6 +85,22 @@ class ParamTypeConverterTest {
                 ParamTypeConverter.convertEnum(dto("c", "ReD", ParamDataType.TEXT), Color.class));
     }
 
+    enum Mode { fast, FAST, Slow, MEDIUM_SLOW }
+
+    @Test
+    void enum_prefers_exact_case_then_declaration_order() {
+        assertEquals(Mode.FAST, ParamTypeConverter.convertEnum(dto("m", "FAST", ParamDataType.TEXT), Mode.class));
+        assertEquals(Mode.fast, ParamTypeConverter.convertEnum(dto("m", "fast", ParamDataType.TEXT), Mode.class));
+        assertEquals(Mode.fast, ParamTypeConverter.convertEnum(dto("m", "Fast", ParamDataType.TEXT), Mode.class));
+        assertEquals(Mode.Slow, ParamTypeConverter.convertEnum(dto("m", " SLOW ", ParamDataType.TEXT), Mode.class));
+        assertEquals(Mode.MEDIUM_SLOW,
+                ParamTypeConverter.convert(dto("m", "medium_slow", ParamDataType.TEXT), Mode.class));
+        assertThrows(ParamTypeMismatchException.class,
+                () -> ParamTypeConverter.convertEnum(dto("m", "medium", ParamDataType.TEXT), Mode.class));
+        assertThrows(ParamTypeMismatchException.class,
+                () -> ParamTypeConverter.convertEnum(dto("m", "  ", ParamDataType.TEXT), Mode.class));
+    }
+
     @Test
     void enum_invalid_throws() {
         assertThrows(ParamTypeMismatchException.class,
@@ -108,6 +124,40 @@ class ParamTypeConverterTest {
                 () -> ParamTypeConverter.toMap("k", "{not-json"));
     }
 
+    @Test
+    void list_parsing_converts_elements_in_place() {
+        assertEquals(List.of(1, -2, 30),
+                ParamTypeConverter.convertList(dto("l", " 1 ,-2,, +30 ,", ParamDataType.NUMBER), Integer.class));
+        assertEquals(List.of(9_000_000_000L, 1L),
+                ParamTypeConverter.convertList(dto("l", "9000000000,1", ParamDataType.NUMBER), Long.class));
+        assertEquals(List.of(new BigDecimal("1.50"), new BigDecimal("2")),
+                ParamTypeConverter.convertList(dto("l", "1.50, 2", ParamDataType.NUMBER), BigDecimal.class));
+        assertEquals(List.of("1", "2"),
+                ParamTypeConverter.convertList(dto("l", "1, 2", ParamDataType.NUMBER), String.class));
+        assertEquals(List.of(true, false, true),
+                ParamTypeConverter.convertList(dto("l", "TRUE, 0 ,1", ParamDataType.BOOLEAN), Boolean.class));
+        assertEquals(List.of(Color.RED, Color.GREEN),
+                ParamTypeConverter.convertList(dto("l", "red, Green", ParamDataType.TEXT), Color.class));
+        assertEquals(List.of(Duration.ofSeconds(5), Duration.ofMinutes(90)),
+                ParamTypeConverter.convertList(dto("l", "5s, 1h30m", ParamDataType.TEXT), Duration.class));
+        assertEquals(List.of(), ParamTypeConverter.convertList(dto("l", " , ", ParamDataType.TEXT), String.class));
+    }
+
+    @Test
+    void list_element_errors_report_the_element() {
+        ParamTypeMismatchException e = assertThrows(ParamTypeMismatchException.class,
+                () -> ParamTypeConverter.convertList(dto("l", "1, x2 ,3", ParamDataType.NUMBER), Integer.class));
+        assertEquals("x2", e.getActualValue());
+        assertEquals("NUMBER", e.getExpected());
+
+        assertThrows(ParamTypeMismatchException.class,
+                () -> ParamTypeConverter.convertList(dto("l", "a,b", ParamDataType.TEXT), Integer.class));
+        assertThrows(ParamTypeMismatchException.class,
+                () -> ParamTypeConverter.convertList(dto("l", "true", ParamDataType.BOOLEAN), String.class));
+        assertThrows(ParamTypeMismatchException.class,
+                () -> ParamTypeConverter.convertList(dto("l", "yes", ParamDataType.BOOLEAN), Boolean.class));
+    }
+
     @Test
     void json_toMapList_ok_and_invalid_throws() {
         List<Map<String, Object>> arr = ParamTypeConverter.toMapList("k", "[{\"a\":1},{\"a\":2}]");
@@ -118,6 +168,24 @@ class ParamTypeConverterTest {
                 () -> ParamTypeConverter.toMapList("k", "{not-json"));
     }
 
+    @Test
+    void json_tree_is_read_only_and_keeps_field_order() {
+        Object tree = ParamTypeConverter.toJsonTree("k", "{\"z\":1,\"a\":[{\"b\":true}],\"m\":null}");
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> root = (Map<String, Object>) tree;
+        assertEquals(List.of("z", "a", "m"), List.copyOf(root.keySet()));
+        assertThrows(UnsupportedOperationException.class, () -> root.put("x", 1));
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> list = (List<Map<String, Object>>) root.get("a");
+        assertThrows(UnsupportedOperationException.class, () -> list.add(Map.of()));
+        assertThrows(UnsupportedOperationException.class, () -> list.get(0).remove("b"));
+
+        assertEquals(7, ParamTypeConverter.toJsonTree("k", "7"));
+        assertThrows(ParamTypeMismatchException.class, () -> ParamTypeConverter.toJsonTree("k", "{bad"));
+    }
+
     @Test
     void json_list_typed_parsing() {
         SystemParamDto d = dto("nums", "[1,2,3]", ParamDataType.JSON);
@@ -0,0 +1,174 @@
+package com.example.systemparam.jdbc;
+
+import com.example.systemparam.domain.ParamChangeSet;
+import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.ParamDefinition;
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.domain.TagDefinition;
+import com.example.systemparam.domain.TagGroupDto;
+import com.example.systemparam.service.SystemParams;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcSystemParamRepositoryTest {
+
+    @Test
+    void in_lists_are_padded_to_a_few_statement_shapes() {
+        assertEquals(1, JdbcSystemParamRepository.inListSize(1));
+        assertEquals(2, JdbcSystemParamRepository.inListSize(2));
+        assertEquals(4, JdbcSystemParamRepository.inListSize(3));
+        assertEquals(64, JdbcSystemParamRepository.inListSize(40));
+        assertEquals(JdbcSystemParamRepository.MAX_IN_LIST, JdbcSystemParamRepository.inListSize(10_000));
+
+        assertTrue(JdbcSystemParamRepository.selectParamsByKeysSql(3).endsWith("WHERE param_key IN (?,?,?)"));
+    }
+
+    @Nested
+    @EnabledIfEnvironmentVariable(named = "JDBC_URL", matches = ".+")
+    class AgainstDatabase {
+
+        private JdbcSystemParamRepository repo;
+
+        @BeforeEach
+        void connect() {
+            repo = JdbcSystemParamRepository.create(
+                    System.getenv("JDBC_URL"), System.getenv("JDBC_USER"), System.getenv("JDBC_PASS"));
+        }
+
+        @AfterEach
+        void close() {
+            if (repo != null) repo.close();
+        }
+
+        private static String unique(String prefix) {
+            return prefix + "_" + UUID.randomUUID().toString().substring(0, 8);
+        }
+
+        @Test
+        void detects_a_native_upsert_dialect() {
+            assertTrue(repo.dialect().supportsUpsert(), repo.dialect().name());
+        }
+
+        @Test
+        void save_inserts_then_updates_in_place() {
+            String tag = unique("T");
+            TagGroupDto t = new TagGroupDto();
+            t.setTagCode(tag);
+            t.setTagName("Tag");
+            t.setPriority(5);
+            repo.save(t);
+
+            String key = unique("k");
+            SystemParamDto p = new SystemParamDto();
+            p.setKey(key);
+            p.setValue("1");
+            p.setType(ParamDataType.NUMBER);
+            p.setTagCode(tag);
+            p.setDisplayPriority(3);
+            repo.save(p);
+
+            p.setValue("2");
+            repo.save(p);
+
+            SystemParamDto stored = repo.findByKey(key);
+            assertNotNull(stored);
+            assertEquals("2", stored.getValue());
+            assertEquals(ParamDataType.NUMBER, stored.getType());
+            assertEquals(tag, stored.getTagCode());
+            assertEquals(3, stored.getDisplayPriority());
+
+            p.setDisplayPriority(null);
+            repo.save(p);
+            assertNull(repo.findByKey(key).getDisplayPriority());
+
+            t.setTagName("Tag v2");
+            repo.save(t);
+            assertTrue(repo.findAllTags().stream()
+                    .anyMatch(x -> tag.equals(x.getTagCode()) && "Tag v2".equals(x.getTagName())));
+        }
+
+        @Test
+        void ungrouped_params_are_stored_without_a_tag_row() {
+            SystemParams sp = new SystemParams(repo);
+            String key = unique("u");
+
+            sp.ensureParam(key, "v", null, ParamDataType.TEXT, null, null);
+
+            assertNull(repo.findByKey(key).getTagCode());
+            assertEquals("v", sp.get(key));
+        }
+
+        @Test
+        void findByKeys_returns_existing_rows_in_one_call() {
+            SystemParams sp = new SystemParams(repo);
+            String a = unique("a");
+            String b = unique("b");
+            sp.ensureParam(a, "1", null, ParamDataType.NUMBER, null, null);
+            sp.ensureParam(b, "2", null, ParamDataType.NUMBER, null, null);
+
+            List<SystemParamDto> found = repo.findByKeys(List.of(a, b, unique("missing"), a));
+            assertEquals(2, found.size());
+        }
+
+        @Test
+        void bulk_bootstrap_writes_tags_then_params_in_batches() {
+            SystemParams sp = new SystemParams(repo);
+            String tag = unique("T");
+            String a = unique("a");
+            String b = unique("b");
+
+            sp.ensureTags(List.of(new TagDefinition(tag, "Tag", null, 1)));
+            sp.ensureParams(List.of(
+                    new ParamDefinition(a, 1, null, ParamDataType.NUMBER, tag, 1),
+                    new ParamDefinition(b, true, null, ParamDataType.BOOLEAN, tag, 2)
+            ));
+
+            assertEquals("1", repo.findByKey(a).getValue());
+            assertEquals("true", repo.findByKey(b).getValue());
+            assertEquals(tag, repo.findByKey(b).getTagCode());
+        }
+    
+        @Test
+        void findChangedSince_returns_only_rows_written_after_the_revision() {
+            String tag = unique("T");
+            String before = unique("b");
+            String after = unique("a");
+
+            SystemParamDto p = new SystemParamDto();
+            p.setKey(before);
+            p.setValue("1");
+            p.setType(ParamDataType.NUMBER);
+            repo.save(p);
+
+            long mark = repo.currentRevision();
+            assertEquals(ParamChangeSet.empty(mark), repo.findChangedSince(mark));
+
+            TagGroupDto t = new TagGroupDto();
+            t.setTagCode(tag);
+            t.setTagName("Tag");
+            repo.save(t);
+
+            SystemParamDto q = new SystemParamDto();
+            q.setKey(after);
+            q.setValue("2");
+            q.setType(ParamDataType.NUMBER);
+            q.setTagCode(tag);
+            repo.save(q);
+
+            ParamChangeSet changes = repo.findChangedSince(mark);
+            assertTrue(changes.revision() >= mark + 2);
+            assertTrue(changes.params().stream().anyMatch(x -> after.equals(x.getKey())));
+            assertTrue(changes.params().stream().noneMatch(x -> before.equals(x.getKey())));
+            assertTrue(changes.tags().stream().anyMatch(x -> tag.equals(x.getTagCode())));
+            assertTrue(repo.findChangedSince(changes.revision()).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.systemparam.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlDialectTest {
+
+    @Test
+    void detects_dialect_from_product_name() {
+        assertEquals(SqlDialect.MYSQL, SqlDialect.fromProductName("MySQL"));
+        assertEquals(SqlDialect.MYSQL, SqlDialect.fromProductName("MariaDB"));
+        assertEquals(SqlDialect.POSTGRESQL, SqlDialect.fromProductName("PostgreSQL"));
+        assertEquals(SqlDialect.SQLSERVER, SqlDialect.fromProductName("Microsoft SQL Server"));
+        assertEquals(SqlDialect.GENERIC, SqlDialect.fromProductName("H2"));
+        assertEquals(SqlDialect.GENERIC, SqlDialect.fromProductName(null));
+    }
+
+    @Test
+    void detects_dialect_from_jdbc_url() {
+        assertEquals(SqlDialect.MYSQL, SqlDialect.fromJdbcUrl("jdbc:mysql://db:3306/system_param"));
+        assertEquals(SqlDialect.POSTGRESQL, SqlDialect.fromJdbcUrl("jdbc:postgresql://db/system_param"));
+        assertEquals(SqlDialect.SQLSERVER, SqlDialect.fromJdbcUrl("jdbc:sqlserver://db;databaseName=x"));
+        assertEquals(SqlDialect.GENERIC, SqlDialect.fromJdbcUrl("jdbc:h2:mem:x"));
+    }
+
+    @Test
+    void upserts_are_single_statements_in_the_native_syntax() {
+        assertTrue(SqlDialect.MYSQL.upsertParamSql().contains("ON DUPLICATE KEY UPDATE"));
+        assertTrue(SqlDialect.POSTGRESQL.upsertParamSql().contains("ON CONFLICT (param_key)"));
+        assertTrue(SqlDialect.SQLSERVER.upsertParamSql().startsWith("MERGE INTO system_param "));
+        assertTrue(SqlDialect.POSTGRESQL.upsertTagSql().contains("ON CONFLICT (tag_code)"));
+
+        assertFalse(SqlDialect.GENERIC.supportsUpsert());
+        assertNull(SqlDialect.GENERIC.upsertParamSql());
+    }
+
+    @Test
+    void upserts_bind_one_placeholder_per_column() {
+        for (SqlDialect d : SqlDialect.values()) {
+            if (!d.supportsUpsert()) continue;
+            assertEquals(7, d.upsertParamSql().chars().filter(ch -> ch == '?').count(), d.name());
+            assertEquals(5, d.upsertTagSql().chars().filter(ch -> ch == '?').count(), d.name());
+        }
+    }
+
+    @Test
+    void every_write_stamps_the_revision_column() {
+        for (SqlDialect d : SqlDialect.values()) {
+            if (!d.supportsUpsert()) continue;
+            assertTrue(d.upsertParamSql().contains("revision"), d.name());
+            assertTrue(d.upsertTagSql().contains("revision"), d.name());
+        }
+        assertTrue(SqlDialect.UPDATE_PARAM.contains("revision = ?"));
+        assertTrue(SqlDialect.UPDATE_TAG.contains("revision = ?"));
+        assertEquals(7, SqlDialect.INSERT_PARAM.chars().filter(ch -> ch == '?').count());
+        assertEquals(5, SqlDialect.INSERT_TAG.chars().filter(ch -> ch == '?').count());
+    }
+}
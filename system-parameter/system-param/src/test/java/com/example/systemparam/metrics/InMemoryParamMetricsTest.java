@@ -0,0 +1,136 @@
+package com.example.systemparam.metrics;
+
+import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.domain.TagGroupDto;
+import com.example.systemparam.exception.ParamNotFoundException;
+import com.example.systemparam.exception.ParamRepositoryException;
+import com.example.systemparam.exception.ParamTypeMismatchException;
+import com.example.systemparam.port.SystemParamRepository;
+import com.example.systemparam.service.SystemParamService;
+import com.example.systemparam.service.SystemParams;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryParamMetricsTest {
+
+    static class InMemoryRepo implements SystemParamRepository {
+        final Map<String, SystemParamDto> params = new ConcurrentHashMap<>();
+        volatile boolean failSaves;
+
+        @Override
+        public SystemParamDto findByKey(String key) {
+            return params.get(key);
+        }
+
+        @Override
+        public List<SystemParamDto> findAllParams() {
+            return new ArrayList<>(params.values());
+        }
+
+        @Override
+        public List<TagGroupDto> findAllTags() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void save(SystemParamDto param) {
+            if (failSaves) throw new ParamRepositoryException("down", null);
+            params.put(param.getKey(), param.copy());
+        }
+
+        @Override
+        public void save(TagGroupDto tag) {
+        }
+    }
+
+    @Test
+    void records_service_calls_repository_round_trips_and_conversions() {
+        InMemoryParamMetrics metrics = new InMemoryParamMetrics();
+        SystemParams params = new SystemParams(new InMemoryRepo(), metrics);
+        SystemParamService service = new InstrumentedSystemParamService(params, metrics);
+
+        service.set("a.timeout", "30s", ParamDataType.TEXT, "A", 1, null);
+        service.set("a.retries", "3", ParamDataType.NUMBER, "A", 2, null);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Duration.ofSeconds(30), service.getDuration("a.timeout"));
+            assertEquals(3, service.getInt("a.retries", 0));
+        }
+
+        assertEquals(5, metrics.serviceCalls().get("getDuration").count());
+        assertEquals(5, metrics.serviceCalls().get("getInt").count());
+        assertEquals(2, metrics.serviceCalls().get("set").count());
+
+        assertEquals(1, metrics.repositoryCalls().get("findAllParams").count());
+        assertEquals(2, metrics.repositoryCalls().get("saveParam").count());
+        assertEquals(0, metrics.repositoryFailures("saveParam"));
+        assertNull(metrics.repositoryCalls().get("currentRevision"), "untracked repositories are not round trips");
+
+        // Memoized reads do not convert again.
+        assertEquals(1, metrics.conversions().get(ParamDataType.TEXT).count());
+        assertEquals(1, metrics.conversions().get(ParamDataType.NUMBER).count());
+        assertEquals(0, metrics.conversions().get(ParamDataType.JSON).count());
+    }
+
+    @Test
+    void counts_not_found_and_mismatches_per_key() {
+        InMemoryParamMetrics metrics = new InMemoryParamMetrics();
+        SystemParams params = new SystemParams(new InMemoryRepo(), metrics);
+        params.set("a.name", "abc", ParamDataType.TEXT, "A", 1, null);
+
+        assertThrows(ParamNotFoundException.class, () -> params.get("missing"));
+        assertEquals(7, params.getInt("missing", 7));
+        assertTrue(params.getResult("other", Integer.class).isMissing());
+
+        assertThrows(ParamTypeMismatchException.class, () -> params.getAs("a.name", Integer.class));
+        assertThrows(ParamTypeMismatchException.class, () -> params.getAs("a.name", Integer.class));
+        assertEquals(5, params.getAsOrDefault("a.name", Long.class, 5L));
+        assertEquals(9, params.getInt("a.name", 9));
+        assertEquals("abc", params.get("a.name"));
+
+        assertEquals(3, metrics.notFoundCount());
+        assertEquals(Map.of("missing", 2L, "other", 1L), metrics.notFoundByKey());
+        assertEquals(4, metrics.mismatchCount());
+        assertEquals(Map.of("a.name", 4L), metrics.mismatchesByKey());
+    }
+
+    @Test
+    void failed_repository_calls_are_counted() {
+        InMemoryParamMetrics metrics = new InMemoryParamMetrics();
+        InMemoryRepo repo = new InMemoryRepo();
+        SystemParams params = new SystemParams(repo, metrics);
+        params.snapshot();
+
+        repo.failSaves = true;
+        assertThrows(ParamRepositoryException.class,
+                () -> params.set("a.key", "1", ParamDataType.NUMBER, "A", 1, null));
+
+        assertEquals(1, metrics.repositoryCalls().get("saveParam").count());
+        assertEquals(1, metrics.repositoryFailures("saveParam"));
+    }
+
+    @Test
+    void disabled_metrics_leave_the_repository_unwrapped() {
+        InMemoryRepo repo = new InMemoryRepo();
+        assertSame(repo, new SystemParams(repo).repository());
+        assertSame(repo, new SystemParams(repo, ParamMetrics.NOOP).repository());
+        assertInstanceOf(InstrumentedSystemParamRepository.class,
+                new SystemParams(repo, new InMemoryParamMetrics()).repository());
+    }
+
+    @Test
+    void per_key_counts_are_bounded() {
+        InMemoryParamMetrics metrics = new InMemoryParamMetrics();
+        for (int i = 0; i < InMemoryParamMetrics.MAX_TRACKED_KEYS + 10; i++) metrics.notFound("k" + i);
+
+        assertEquals(InMemoryParamMetrics.MAX_TRACKED_KEYS + 10, metrics.notFoundCount());
+        assertEquals(InMemoryParamMetrics.MAX_TRACKED_KEYS, metrics.notFoundByKey().size());
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.systemparam.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void small_values_are_exact_and_larger_ones_within_bucket_error() {
+        for (long v : new long[]{0, 1, 15, 16, 17, 1_000, 123_456, 2_000_000_000L, Long.MAX_VALUE}) {
+            long upper = LatencyHistogram.upperBound(LatencyHistogram.index(v));
+            assertTrue(upper >= v, () -> v + " -> " + upper);
+            if (v < 16) assertEquals(v, upper);
+            assertTrue(upper - v <= v / 16 + 1, () -> v + " -> " + upper);
+        }
+    }
+
+    @Test
+    void percentiles_follow_the_recorded_distribution() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 1; i <= 1_000; i++) h.record(i * 1_000L);
+
+        assertEquals(1_000, h.count());
+        assertEquals(1_000_000, h.maxNanos());
+        assertEquals(500_500, h.meanNanos(), 0.5);
+        assertEquals(500_000, h.percentileNanos(50), 500_000 / 16.0);
+        assertEquals(990_000, h.percentileNanos(99), 990_000 / 16.0);
+        assertEquals(1_000_000, h.percentileNanos(100));
+    }
+
+    @Test
+    void empty_histogram_reports_zero_and_negative_values_count_as_zero() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.percentileNanos(99));
+        assertEquals(0, h.meanNanos());
+
+        h.record(-5);
+        List<Long> buckets = new ArrayList<>();
+        h.forEachBucket((upper, count) -> buckets.add(upper));
+        assertEquals(List.of(0L), buckets);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.systemparam.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParamRefTrackerTest {
+
+    @Test
+    void collected_handles_are_dropped_without_writing_their_key() {
+        ParamRefTracker tracker = new ParamRefTracker();
+        List<Reference<ParamRef<?>>> unused = new ArrayList<>();
+        for (int i = 0; i < 100; i++) unused.add(tracker.track(new ParamRef<>("unused." + i, Integer.class, 0)));
+        ParamRef<Integer> kept = new ParamRef<>("kept", Integer.class, 0);
+        ParamRef<Integer> twin = new ParamRef<>("kept", Integer.class, 1);
+        tracker.track(kept);
+        Reference<ParamRef<?>> twinHandle = tracker.track(twin);
+        assertEquals(101, tracker.trackedKeys());
+
+        // Enqueuing stands in for the collector clearing the referents.
+        for (Reference<ParamRef<?>> r : unused) r.enqueue();
+        twinHandle.enqueue();
+        assertEquals(1, tracker.trackedKeys());
+
+        tracker.track(new ParamRef<>("other", Integer.class, 0)).enqueue();
+        assertEquals(1, tracker.trackedKeys(), "a key whose last handle is collected is removed");
+    }
+}
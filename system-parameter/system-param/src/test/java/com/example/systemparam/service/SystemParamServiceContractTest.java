@@ -1,14 +1,21 @@
 package com.example.systemparam.service;
 
+import com.example.systemparam.collection.LongHashSet;
 import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.ParamDefinition;
 import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.domain.TagDefinition;
 import com.example.systemparam.domain.TagGroupDto;
+import com.example.systemparam.domain.TagGroupViewDto;
 import com.example.systemparam.port.SystemParamRepository;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,6 +33,70 @@ class SystemParamServiceContractTest {
         @Override public void save(TagGroupDto tag) { tags.put(tag.getTagCode(), tag); }
     }
 
+    /** Implements only the methods of the first release, by delegation. */
+    static class BaselineService implements SystemParamService {
+        private final SystemParamService d;
+
+        BaselineService(SystemParamService delegate) { this.d = delegate; }
+
+        @Override public String get(String key) { return d.get(key); }
+        @Override public Optional<String> getOptional(String key) { return d.getOptional(key); }
+        @Override public String getOrDefault(String key, String def) { return d.getOrDefault(key, def); }
+        @Override public <T> T getAs(String key, Class<T> type) { return d.getAs(key, type); }
+        @Override public <T> T getAsOrDefault(String key, Class<T> type, T def) { return d.getAsOrDefault(key, type, def); }
+        @Override public Duration getDuration(String key) { return d.getDuration(key); }
+        @Override public Duration getDurationOrDefault(String key, Duration def) { return d.getDurationOrDefault(key, def); }
+        @Override public <E extends Enum<E>> E getEnum(String key, Class<E> type) { return d.getEnum(key, type); }
+        @Override public <E extends Enum<E>> E getEnumOrDefault(String key, Class<E> type, E def) { return d.getEnumOrDefault(key, type, def); }
+        @Override public <T> List<T> getList(String key, Class<T> type) { return d.getList(key, type); }
+        @Override public <T> List<T> getListOrDefault(String key, Class<T> type, List<T> def) { return d.getListOrDefault(key, type, def); }
+        @Override public Map<String, Object> getMap(String key) { return d.getMap(key); }
+        @Override public Map<String, Object> getMapOrDefault(String key, Map<String, Object> def) { return d.getMapOrDefault(key, def); }
+        @Override public List<Map<String, Object>> getMapList(String key) { return d.getMapList(key); }
+        @Override public List<Map<String, Object>> getMapListOrDefault(String key, List<Map<String, Object>> def) { return d.getMapListOrDefault(key, def); }
+        @Override public List<TagGroupViewDto> getAllGroupedByTag() { return d.getAllGroupedByTag(); }
+        @Override public TagGroupViewDto getByTag(String tagCode) { return d.getByTag(tagCode); }
+        @Override public void set(String key, String value, ParamDataType type, String tagCode, Integer priority, String description) { d.set(key, value, type, tagCode, priority, description); }
+        @Override public void set(String key, Object value, ParamDataType type, String tagCode, Integer priority, String description) { d.set(key, value, type, tagCode, priority, description); }
+        @Override public void update(String key, String value) { d.update(key, value); }
+        @Override public void update(String key, Object value) { d.update(key, value); }
+        @Override public void ensureTag(String code, String name, String description, Integer priority) { d.ensureTag(code, name, description, priority); }
+        @Override public void ensureParam(String key, String value, String description, ParamDataType type, String tagCode, Integer priority) { d.ensureParam(key, value, description, type, tagCode, priority); }
+        @Override public void ensureParam(String key, Object value, String description, ParamDataType type, String tagCode, Integer priority) { d.ensureParam(key, value, description, type, tagCode, priority); }
+    }
+
+    record Limits(int rps) {
+    }
+
+    @Test
+    void defaults_let_first_release_implementations_compile_and_work() {
+        SystemParamService svc = new BaselineService(new SystemParams(new InMemoryRepo()));
+        svc.ensureTags(List.of(new TagDefinition("LIMITS", "Limits", null, 1)));
+        svc.ensureParams(List.of(
+                new ParamDefinition("ids", "[3, 1, 2]", null, ParamDataType.JSON, "LIMITS", 1),
+                new ParamDefinition("names", "b, a", null, ParamDataType.TEXT, "LIMITS", 1),
+                new ParamDefinition("rps", "50", null, ParamDataType.NUMBER, "LIMITS", 2),
+                new ParamDefinition("json", "{\"a\":{\"b\":7}}", null, ParamDataType.JSON, "LIMITS", 3)));
+
+        assertEquals(Map.of("rps", "50"), svc.getAll(List.of("rps", "missing")));
+        assertEquals(Map.of("rps", 50), svc.getAllAs(List.of("missing", "rps"), Integer.class));
+        assertTrue(svc.getResult("missing", Integer.class).isMissing());
+        assertTrue(svc.getResult("ids", Integer.class).isInvalid());
+        assertEquals(50, svc.getInt("rps", 0));
+        assertEquals(9, svc.getInt("ids", 9));
+        assertEquals(9L, svc.getLong("missing", 9L));
+        assertArrayEquals(new int[]{3, 1, 2}, svc.getIntArray("ids"));
+        assertEquals(LongHashSet.of(1, 2, 3), svc.getLongSet("ids"));
+        assertEquals(Set.of("a", "b"), svc.getStringSet("names"));
+        assertEquals(7, svc.getJsonPath("json", "$.a.b", Integer.class));
+        assertTrue(svc.getMapResult("json").isFound());
+        assertTrue(svc.getMapListResult("json").isInvalid());
+        assertEquals(List.of(3L, 1L, 2L), svc.getListResult("ids", Long.class).get());
+
+        assertThrows(UnsupportedOperationException.class, () -> svc.ref("rps", Integer.class, 0));
+        assertThrows(UnsupportedOperationException.class, () -> svc.bindTag("LIMITS", Limits.class));
+    }
+
     @Test
     void can_use_through_interface() {
         SystemParamService svc = new SystemParams(new InMemoryRepo());
@@ -1,21 +1,53 @@
 package com.example.systemparam.service;
 
+import com.example.systemparam.annotation.ParamKey;
+import com.example.systemparam.collection.IntHashSet;
+import com.example.systemparam.collection.LongHashSet;
+import com.example.systemparam.converter.ConverterRegistry;
+import com.example.systemparam.domain.ParamChangeSet;
 import com.example.systemparam.domain.ParamDataType;
+import com.example.systemparam.domain.ParamDefinition;
 import com.example.systemparam.domain.SystemParamDto;
+import com.example.systemparam.domain.TagDefinition;
 import com.example.systemparam.domain.TagGroupDto;
 import com.example.systemparam.domain.TagGroupViewDto;
 import com.example.systemparam.exception.ParamNotFoundException;
+import com.example.systemparam.exception.ParamTypeMismatchException;
 import com.example.systemparam.port.SystemParamRepository;
+import com.sun.management.ThreadMXBean;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class SystemParamsTest {
 
+    enum Tier { GOLD, SILVER }
+
+    record PaymentConfig(
+            Duration timeout,
+            int maxRetries,
+            boolean enabled,
+            List<String> providers,
+            Tier tier,
+            @ParamKey("legacy.fee_rate") java.math.BigDecimal feeRate,
+            String unused
+    ) {
+    }
+
+    record RetryConfig(int maxRetries, int backoffMillis) {
+    }
+
+    record FeeConfig(@ParamKey("fee.rate") java.math.BigDecimal rate) {
+    }
+
     static class InMemoryRepo implements SystemParamRepository {
         private final Map<String, SystemParamDto> params = new ConcurrentHashMap<>();
         private final Map<String, TagGroupDto> tags = new ConcurrentHashMap<>();
@@ -71,8 +103,35 @@ class SystemParamsTest {
     }
 
     static class CountingRepo extends InMemoryRepo {
+        int findByKeyCalls = 0;
+        int findAllParamsCalls = 0;
         int saveParamCalls = 0;
         int saveTagCalls = 0;
+        int batchSaveCalls = 0;
+
+        @Override
+        public void saveParams(Collection<SystemParamDto> params) {
+            batchSaveCalls++;
+            super.saveParams(params);
+        }
+
+        @Override
+        public void saveTags(Collection<TagGroupDto> tags) {
+            batchSaveCalls++;
+            super.saveTags(tags);
+        }
+
+        @Override
+        public SystemParamDto findByKey(String key) {
+            findByKeyCalls++;
+            return super.findByKey(key);
+        }
+
+        @Override
+        public List<SystemParamDto> findAllParams() {
+            findAllParamsCalls++;
+            return super.findAllParams();
+        }
 
         @Override
         public void save(SystemParamDto param) {
@@ -87,6 +146,45 @@ class SystemParamsTest {
         }
     }
 
+    /**
+     * Stamps every write with a revision, like the JDBC repository does.
+     */
+    static class TrackingRepo extends CountingRepo {
+        private final Map<String, Long> paramRevisions = new ConcurrentHashMap<>();
+        private final Map<String, Long> tagRevisions = new ConcurrentHashMap<>();
+        long revision = 0;
+        int changedSinceCalls = 0;
+
+        @Override
+        public synchronized void save(SystemParamDto param) {
+            super.save(param);
+            paramRevisions.put(param.getKey(), ++revision);
+        }
+
+        @Override
+        public synchronized void save(TagGroupDto tag) {
+            super.save(tag);
+            tagRevisions.put(tag.getTagCode(), ++revision);
+        }
+
+        @Override
+        public synchronized long currentRevision() {
+            return revision;
+        }
+
+        @Override
+        public synchronized ParamChangeSet findChangedSince(long since) {
+            changedSinceCalls++;
+            List<SystemParamDto> params = new ArrayList<>();
+            paramRevisions.forEach((k, r) -> { if (r > since) params.add(InMemoryRepo.cloneParam(findByKey(k))); });
+            List<TagGroupDto> tags = new ArrayList<>();
+            for (TagGroupDto t : findAllTags()) {
+                if (tagRevisions.get(t.getTagCode()) > since) tags.add(t);
+            }
+            return new ParamChangeSet(revision, params, tags);
+        }
+    }
+
     @Test
     void get_missing_throws() {
         SystemParams sp = new SystemParams(new InMemoryRepo());
@@ -308,6 +406,755 @@ class SystemParamsTest {
         assertNull(sp.getByTag("NOPE"));
     }
 
+    @Test
+    void reads_are_served_from_snapshot_without_repository_calls() {
+        CountingRepo repo = new CountingRepo();
+        SystemParams sp = new SystemParams(repo);
+
+        sp.set("n", "5", ParamDataType.NUMBER, "A", 1, null);
+        int loads = repo.findAllParamsCalls;
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("5", sp.get("n"));
+            assertEquals(5, sp.getAs("n", Integer.class));
+            assertEquals(List.of(5L), sp.getList("n", Long.class));
+            assertTrue(sp.getOptional("missing").isEmpty());
+        }
+
+        assertEquals(loads, repo.findAllParamsCalls);
+        assertEquals(0, repo.findByKeyCalls);
+    }
+
+    @Test
+    void every_commit_publishes_a_new_snapshot_version() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+
+        ParamSnapshot first = sp.snapshot();
+        sp.set("k", "v1", ParamDataType.TEXT, "A", 1, null);
+        ParamSnapshot second = sp.snapshot();
+        sp.update("k", "v2");
+        ParamSnapshot third = sp.snapshot();
+        sp.ensureTag("A", "Group A", null, 1);
+        ParamSnapshot fourth = sp.snapshot();
+
+        assertTrue(first.version() < second.version());
+        assertTrue(second.version() < third.version());
+        assertTrue(third.version() < fourth.version());
+
+        assertNull(first.find("k"), "older snapshots are immutable");
+        assertEquals("v1", second.find("k").getValue());
+        assertEquals("v2", third.find("k").getValue());
+    }
+
+    @Test
+    void noop_ensure_does_not_publish_new_version() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.ensureTag("A", "Group A", null, 1);
+        sp.ensureParam("k", "v", "d", ParamDataType.TEXT, "A", 1);
+        long version = sp.snapshot().version();
+
+        sp.ensureTag("A", "Group A", null, 1);
+        sp.ensureParam("k", "other", "d", ParamDataType.TEXT, "A", 1);
+
+        assertEquals(version, sp.snapshot().version());
+    }
+
+    @Test
+    void snapshot_params_are_read_only() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("k", "v", ParamDataType.TEXT, "A", 1, null);
+
+        SystemParamDto shared = sp.getByTag("A").getParams().get(0);
+        assertThrows(UnsupportedOperationException.class, () -> shared.setValue("x"));
+        assertEquals("v", sp.get("k"));
+    }
+
+    @Test
+    void failed_write_leaves_snapshot_untouched() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("n", "5", ParamDataType.NUMBER, "A", 1, null);
+        long version = sp.snapshot().version();
+
+        assertThrows(RuntimeException.class, () -> sp.update("n", "not-a-number"));
+
+        assertEquals(version, sp.snapshot().version());
+        assertEquals("5", sp.get("n"));
+    }
+
+    @Test
+    void refresh_picks_up_changes_made_behind_the_service() {
+        InMemoryRepo repo = new InMemoryRepo();
+        SystemParams sp = new SystemParams(repo);
+        sp.set("k", "v1", ParamDataType.TEXT, "A", 1, null);
+
+        SystemParamDto external = repo.findByKey("k");
+        external.setValue("v2");
+        repo.save(external);
+        assertEquals("v1", sp.get("k"));
+
+        sp.refresh();
+        assertEquals("v2", sp.get("k"));
+    }
+
+    @Test
+    void converted_values_are_memoized_per_target_type() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("n", "42", ParamDataType.NUMBER, "A", 1, null);
+        sp.set("ids", "[1,2,3]", ParamDataType.JSON, "A", 2, null);
+        sp.set("t", "30s", ParamDataType.TEXT, "A", 3, null);
+        sp.set("cfg", "{\"a\":{\"b\":1}}", ParamDataType.JSON, "A", 4, null);
+
+        assertSame(sp.getAs("n", java.math.BigDecimal.class), sp.getAs("n", java.math.BigDecimal.class));
+        assertSame(sp.getList("ids", Long.class), sp.getList("ids", Long.class));
+        assertSame(sp.getDuration("t"), sp.getDuration("t"));
+        assertSame(sp.getMap("cfg"), sp.getMap("cfg"));
+
+        assertEquals(42, sp.getAs("n", Integer.class));
+        assertEquals(List.of(1, 2, 3), sp.getList("ids", Integer.class));
+    }
+
+    @Test
+    void set_and_array_getters_read_number_lists_and_json_arrays() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("ids", "[10, 20, 30, 20]", ParamDataType.JSON, "A", 1, null);
+        sp.set("codes", "[7, 8]", ParamDataType.JSON, "A", 2, null);
+        sp.set("names", "a, b, a", ParamDataType.TEXT, "A", 3, null);
+
+        LongHashSet ids = sp.getLongSet("ids");
+        assertEquals(3, ids.size());
+        assertTrue(ids.contains(20));
+        assertFalse(ids.contains(40));
+        assertSame(ids, sp.getLongSet("ids"));
+
+        IntHashSet codes = sp.getIntSet("codes");
+        assertTrue(codes.contains(8));
+        assertSame(codes, sp.getIntSet("codes"));
+
+        assertEquals(Set.of("a", "b"), sp.getStringSet("names"));
+        assertSame(sp.getStringSet("names"), sp.getStringSet("names"));
+
+        assertArrayEquals(new long[]{10, 20, 30, 20}, sp.getLongArray("ids"));
+        assertArrayEquals(new int[]{7, 8}, sp.getIntArray("codes"));
+    }
+
+    @Test
+    void array_getters_return_copies_and_sets_follow_updates() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("ids", "[1,2]", ParamDataType.JSON, "A", 1, null);
+
+        long[] first = sp.getLongArray("ids");
+        first[0] = 99;
+        assertArrayEquals(new long[]{1, 2}, sp.getLongArray("ids"));
+        assertTrue(sp.getLongSet("ids").contains(1));
+
+        sp.update("ids", "[3]");
+        assertFalse(sp.getLongSet("ids").contains(1));
+        assertTrue(sp.getLongSet("ids").contains(3));
+    }
+
+    @Test
+    void set_getters_reject_bad_elements_and_missing_keys() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("bad", "[1, \"x\"]", ParamDataType.JSON, "A", 1, null);
+        sp.set("holes", "[1, null]", ParamDataType.JSON, "A", 2, null);
+        sp.set("big", "[3000000000]", ParamDataType.JSON, "A", 3, null);
+
+        assertThrows(ParamTypeMismatchException.class, () -> sp.getLongSet("bad"));
+        assertThrows(ParamTypeMismatchException.class, () -> sp.getLongSet("bad"));
+        assertThrows(ParamTypeMismatchException.class, () -> sp.getLongArray("holes"));
+        assertThrows(ParamTypeMismatchException.class, () -> sp.getIntSet("big"));
+        assertTrue(sp.getLongSet("big").contains(3_000_000_000L));
+        assertThrows(ParamNotFoundException.class, () -> sp.getStringSet("missing"));
+    }
+
+    @Test
+    void registry_conversions_are_memoized_per_version() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("pattern", "^[a-z]+$", ParamDataType.TEXT, "A", 1, null);
+
+        java.util.regex.Pattern compiled = sp.getAs("pattern", java.util.regex.Pattern.class);
+        assertSame(compiled, sp.getAs("pattern", java.util.regex.Pattern.class));
+
+        sp.update("pattern", "^[0-9]+$");
+        assertNotSame(compiled, sp.getAs("pattern", java.util.regex.Pattern.class));
+        assertTrue(sp.getAs("pattern", java.util.regex.Pattern.class).matcher("42").matches());
+    }
+
+    @Test
+    void memoized_values_are_invalidated_on_change() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("ids", "[1,2]", ParamDataType.JSON, "A", 1, null);
+        List<Long> before = sp.getList("ids", Long.class);
+
+        sp.update("ids", "[3,4]");
+        assertEquals(List.of(3L, 4L), sp.getList("ids", Long.class));
+
+        sp.ensureParam("ids", "ignored", "new description", ParamDataType.JSON, "A", 1);
+        assertEquals(List.of(3L, 4L), sp.getList("ids", Long.class));
+        assertEquals(List.of(1L, 2L), before);
+    }
+
+    @Test
+    void memoized_values_are_read_only() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("ids", "[1,2]", ParamDataType.JSON, "A", 1, null);
+        sp.set("cfg", "{\"a\":{\"b\":1}}", ParamDataType.JSON, "A", 2, null);
+
+        assertThrows(UnsupportedOperationException.class, () -> sp.getList("ids", Long.class).add(3L));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> nested = (Map<String, Object>) sp.getMap("cfg").get("a");
+        assertThrows(UnsupportedOperationException.class, () -> nested.put("c", 2));
+    }
+
+    @Test
+    void map_and_map_list_views_share_one_parse() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("routes", "[{\"path\":\"/a\"},{\"path\":\"/b\"}]", ParamDataType.JSON, "A", 1, null);
+        sp.set("cfg", "{\"a\":1}", ParamDataType.JSON, "A", 2, null);
+
+        List<Map<String, Object>> routes = sp.getMapList("routes");
+        assertSame(routes, sp.getMapList("routes"));
+        assertEquals("/b", routes.get(1).get("path"));
+        assertThrows(UnsupportedOperationException.class, () -> routes.get(0).put("path", "/x"));
+
+        assertThrows(ParamTypeMismatchException.class, () -> sp.getMap("routes"));
+        assertThrows(ParamTypeMismatchException.class, () -> sp.getMapList("cfg"));
+        assertEquals(Map.of("a", 1), sp.getMap("cfg"));
+        assertTrue(sp.getMapListResult("cfg").isInvalid());
+        assertEquals("JSON[]", sp.getMapListResult("cfg").error().getExpected());
+    }
+
+    @Test
+    void getJsonPath_reads_one_value_and_converts_it() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("limits", "{\"partnerX\":{\"rps\":50,\"timeout\":\"2s\",\"tier\":\"gold\"}}",
+                ParamDataType.JSON, "A", 1, null);
+
+        assertEquals(50, sp.getJsonPath("limits", "$.partnerX.rps", Integer.class));
+        assertEquals(50L, sp.getJsonPath("limits", "$.partnerX.rps", Long.class));
+        assertEquals(Duration.ofSeconds(2), sp.getJsonPath("limits", "$.partnerX.timeout", Duration.class));
+        assertEquals(Tier.GOLD, sp.getJsonPath("limits", "$.partnerX.tier", Tier.class));
+        assertSame(sp.getMap("limits").get("partnerX"), sp.getJsonPath("limits", "$.partnerX", Map.class));
+        assertNull(sp.getJsonPath("limits", "$.partnerY.rps", Integer.class));
+
+        assertThrows(ParamTypeMismatchException.class,
+                () -> sp.getJsonPath("limits", "$.partnerX.tier", Integer.class));
+        assertThrows(ParamNotFoundException.class, () -> sp.getJsonPath("missing", "$.a", String.class));
+
+        sp.update("limits", "{\"partnerX\":{\"rps\":75}}");
+        assertEquals(75, sp.getJsonPath("limits", "$.partnerX.rps", Integer.class));
+    }
+
+    @Test
+    void bindTag_maps_params_to_record_components() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("payment.timeout", "30s", ParamDataType.TEXT, "PAYMENT", 1, null);
+        sp.set("payment.max_retries", "3", ParamDataType.NUMBER, "PAYMENT", 2, null);
+        sp.set("enabled", "true", ParamDataType.BOOLEAN, "PAYMENT", 3, null);
+        sp.set("PAYMENT-PROVIDERS", "visa, amex", ParamDataType.TEXT, "PAYMENT", 4, null);
+        sp.set("payment.tier", "gold", ParamDataType.TEXT, "PAYMENT", 5, null);
+        sp.set("legacy.fee_rate", "0.025", ParamDataType.NUMBER, "PAYMENT", 6, null);
+
+        PaymentConfig cfg = sp.bindTag("PAYMENT", PaymentConfig.class);
+
+        assertEquals(new PaymentConfig(Duration.ofSeconds(30), 3, true, List.of("visa", "amex"), Tier.GOLD,
+                new java.math.BigDecimal("0.025"), null), cfg);
+        assertNull(sp.bindTag("NOPE", PaymentConfig.class));
+    }
+
+    @Test
+    void bound_records_are_cached_until_the_tag_changes() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("max_retries", "3", ParamDataType.NUMBER, "RETRY", 1, null);
+        sp.set("backoff_millis", "100", ParamDataType.NUMBER, "RETRY", 2, null);
+        sp.set("other", "x", ParamDataType.TEXT, "OTHER", 1, null);
+
+        RetryConfig first = sp.bindTag("RETRY", RetryConfig.class);
+        assertSame(first, sp.bindTag("RETRY", RetryConfig.class));
+
+        sp.update("other", "y");
+        sp.ensureTag("RETRY", "Retry policy", null, 1);
+        assertSame(first, sp.bindTag("RETRY", RetryConfig.class));
+
+        sp.update("backoff_millis", "250");
+        RetryConfig second = sp.bindTag("RETRY", RetryConfig.class);
+        assertEquals(new RetryConfig(3, 250), second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void bindTag_rejects_missing_primitives_and_bad_values() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("max_retries", "3", ParamDataType.NUMBER, "RETRY", 1, null);
+        assertThrows(ParamNotFoundException.class, () -> sp.bindTag("RETRY", RetryConfig.class));
+
+        sp.set("backoff_millis", "soon", ParamDataType.TEXT, "RETRY", 2, null);
+        assertThrows(ParamTypeMismatchException.class, () -> sp.bindTag("RETRY", RetryConfig.class));
+
+        sp.set("backoff_millis", null, ParamDataType.NUMBER, "RETRY", 2, null);
+        ParamTypeMismatchException e =
+                assertThrows(ParamTypeMismatchException.class, () -> sp.bindTag("RETRY", RetryConfig.class));
+        assertEquals("backoff_millis", e.getKey());
+    }
+
+    @Test
+    void bindTag_rejects_param_keys_outside_the_tag() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("other", "x", ParamDataType.TEXT, "FEE", 1, null);
+        sp.set("fee.rate", "0.5", ParamDataType.NUMBER, "BILLING", 1, null);
+
+        assertThrows(IllegalArgumentException.class, () -> sp.bindTag("FEE", FeeConfig.class));
+    }
+
+    @Test
+    void records_with_a_missing_param_key_are_not_cached() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("other", "x", ParamDataType.TEXT, "FEE", 1, null);
+
+        FeeConfig first = sp.bindTag("FEE", FeeConfig.class);
+        assertNull(first.rate());
+        assertNotSame(first, sp.bindTag("FEE", FeeConfig.class));
+
+        sp.set("fee.rate", "0.5", ParamDataType.NUMBER, "FEE", 2, null);
+        FeeConfig bound = sp.bindTag("FEE", FeeConfig.class);
+        assertEquals(new java.math.BigDecimal("0.5"), bound.rate());
+        assertSame(bound, sp.bindTag("FEE", FeeConfig.class));
+    }
+
+    @Test
+    void getAll_returns_present_keys_in_request_order() {
+        CountingRepo repo = new CountingRepo();
+        SystemParams sp = new SystemParams(repo);
+        sp.set("b", "2", ParamDataType.NUMBER, "A", 1, null);
+        sp.set("a", "1", ParamDataType.NUMBER, "A", 2, null);
+
+        Map<String, String> raw = sp.getAll(List.of("a", "missing", "b"));
+        assertEquals(List.of("a", "b"), new ArrayList<>(raw.keySet()));
+        assertEquals("1", raw.get("a"));
+
+        Map<String, Integer> typed = sp.getAllAs(List.of("b", "a"), Integer.class);
+        assertEquals(Map.of("a", 1, "b", 2), typed);
+
+        assertTrue(sp.getAll(List.of()).isEmpty());
+        assertEquals(0, repo.findByKeyCalls);
+    }
+
+    @Test
+    void getAllAs_propagates_type_mismatch() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("t", "text", ParamDataType.TEXT, "A", 1, null);
+
+        assertThrows(ParamTypeMismatchException.class, () -> sp.getAllAs(List.of("t"), Integer.class));
+    }
+
+    @Test
+    void ensureParams_applies_only_the_changes_in_one_batch() {
+        CountingRepo repo = new CountingRepo();
+        SystemParams sp = new SystemParams(repo);
+        sp.set("existing", "5", ParamDataType.NUMBER, "A", 1, "d");
+        sp.set("unchanged", "x", ParamDataType.TEXT, "A", 2, "d");
+        int savesBefore = repo.saveParamCalls;
+        int lookupsBefore = repo.findByKeyCalls;
+
+        sp.ensureParams(List.of(
+                new ParamDefinition("existing", 999, "new desc", ParamDataType.NUMBER, "A", 1),
+                new ParamDefinition("unchanged", "ignored", "d", ParamDataType.TEXT, "A", 2),
+                new ParamDefinition("created", 7, "c", ParamDataType.NUMBER, "B", 3)
+        ));
+
+        assertEquals(1, repo.batchSaveCalls);
+        assertEquals(savesBefore + 2, repo.saveParamCalls);
+        assertEquals(lookupsBefore, repo.findByKeyCalls);
+
+        assertEquals("5", repo.findByKey("existing").getValue(), "value must not be overridden");
+        assertEquals("new desc", repo.findByKey("existing").getDescription());
+        assertEquals("7", sp.get("created"));
+        assertEquals("B", repo.findByKey("created").getTagCode());
+    }
+
+    @Test
+    void ensureParams_later_definitions_for_the_same_key_win() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+
+        sp.ensureParams(List.of(
+                new ParamDefinition("k", "first", "d1", ParamDataType.TEXT, "A", 1),
+                new ParamDefinition("k", "second", "d2", ParamDataType.TEXT, "A", 2)
+        ));
+
+        assertEquals("first", sp.get("k"));
+        assertEquals("d2", sp.snapshot().find("k").getDescription());
+        assertEquals(2, sp.snapshot().find("k").getDisplayPriority());
+    }
+
+    @Test
+    void ensureParams_invalid_definition_writes_nothing() {
+        CountingRepo repo = new CountingRepo();
+        SystemParams sp = new SystemParams(repo);
+
+        assertThrows(RuntimeException.class, () -> sp.ensureParams(List.of(
+                new ParamDefinition("ok", "1", null, ParamDataType.NUMBER, "A", 1),
+                new ParamDefinition("bad", "not-a-number", null, ParamDataType.NUMBER, "A", 2)
+        )));
+
+        assertEquals(0, repo.saveParamCalls);
+        assertFalse(sp.getOptional("ok").isPresent());
+    }
+
+    @Test
+    void ensureTags_inserts_and_updates_in_one_batch() {
+        CountingRepo repo = new CountingRepo();
+        SystemParams sp = new SystemParams(repo);
+        sp.ensureTag("A", "Group A", null, 1);
+        int before = repo.saveTagCalls;
+
+        sp.ensureTags(List.of(
+                new TagDefinition("A", "Group A", null, 1),
+                new TagDefinition("B", "Group B", "b", 2),
+                new TagDefinition(" C ", "Group C", null, 3)
+        ));
+
+        assertEquals(1, repo.batchSaveCalls);
+        assertEquals(before + 2, repo.saveTagCalls);
+        assertEquals(3, repo.findAllTags().size());
+        assertEquals("Group C", sp.getByTag("C").getTagName());
+
+        sp.ensureTags(List.of(new TagDefinition("B", "Group B", "b", 2)));
+        assertEquals(1, repo.batchSaveCalls, "no-op must not hit the repository");
+    }
+
+    @Test
+    void tag_index_follows_moves_and_reorders_incrementally() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.ensureTag("A", "Group A", null, 2);
+        sp.ensureTag("B", "Group B", null, 1);
+        sp.set("a1", "v", ParamDataType.TEXT, "A", 2, null);
+        sp.set("a2", "v", ParamDataType.TEXT, "A", 1, null);
+        sp.set("x", "v", ParamDataType.TEXT, "X", 1, null);
+
+        assertEquals(List.of("B", "A", "X"), groupCodes(sp));
+        assertEquals(List.of("a2", "a1"), paramKeys(sp.getByTag("A")));
+
+        sp.ensureParam("a1", "v", null, ParamDataType.TEXT, "A", 0);
+        assertEquals(List.of("a1", "a2"), paramKeys(sp.getByTag("A")));
+
+        sp.ensureParam("x", "v", null, ParamDataType.TEXT, "B", 5);
+        assertNull(sp.getByTag("X"), "group without metadata disappears with its last param");
+        assertEquals(List.of("x"), paramKeys(sp.getByTag("B")));
+
+        sp.ensureTag("A", "Group A", null, 0);
+        assertEquals(List.of("A", "B"), groupCodes(sp));
+    }
+
+    @Test
+    void tags_with_equal_priority_keep_repository_order() {
+        InMemoryRepo repo = new InMemoryRepo() {
+            @Override
+            public List<TagGroupDto> findAllTags() {
+                List<TagGroupDto> out = new ArrayList<>();
+                for (String code : List.of("ZETA", "ALPHA", "MID")) {
+                    TagGroupDto t = new TagGroupDto();
+                    t.setTagCode(code);
+                    t.setTagName(code);
+                    t.setPriority("MID".equals(code) ? 0 : 1);
+                    out.add(t);
+                }
+                return out;
+            }
+
+            @Override
+            public List<SystemParamDto> findAllParams() {
+                List<SystemParamDto> out = new ArrayList<>();
+                for (String tag : List.of("UNTAGGED_Z", "UNTAGGED_A")) {
+                    SystemParamDto p = new SystemParamDto();
+                    p.setKey(tag.toLowerCase(Locale.ROOT));
+                    p.setValue("v");
+                    p.setType(ParamDataType.TEXT);
+                    p.setTagCode(tag);
+                    out.add(p);
+                }
+                return out;
+            }
+        };
+
+        assertEquals(List.of("MID", "ZETA", "ALPHA", "UNTAGGED_Z", "UNTAGGED_A"),
+                groupCodes(new SystemParams(repo)));
+    }
+
+    @Test
+    void grouped_views_share_read_only_param_lists() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("k", "v", ParamDataType.TEXT, "A", 1, null);
+
+        TagGroupViewDto first = sp.getByTag("A");
+        TagGroupViewDto second = sp.getAllGroupedByTag().get(0);
+
+        assertSame(first.getParams(), second.getParams());
+        assertThrows(UnsupportedOperationException.class,
+                () -> first.addParam(new SystemParamDto()));
+    }
+
+    private static List<String> groupCodes(SystemParams sp) {
+        List<String> out = new ArrayList<>();
+        for (TagGroupViewDto g : sp.getAllGroupedByTag()) out.add(g.getTagCode());
+        return out;
+    }
+
+    private static List<String> paramKeys(TagGroupViewDto group) {
+        List<String> out = new ArrayList<>();
+        for (SystemParamDto p : group.getParams()) out.add(p.getKey());
+        return out;
+    }
+
+    @Test
+    void sync_applies_only_what_other_nodes_changed() {
+        TrackingRepo repo = new TrackingRepo();
+        SystemParams nodeA = new SystemParams(repo);
+        SystemParams nodeB = new SystemParams(repo);
+        nodeA.set("timeout", "5", ParamDataType.NUMBER, "NET", 1, null);
+        nodeA.set("name", "x", ParamDataType.TEXT, null, null, null);
+
+        assertEquals(5, nodeB.getAs("timeout", Integer.class));
+        int fullLoads = repo.findAllParamsCalls;
+        assertFalse(nodeB.sync(), "no change since load");
+
+        nodeA.update("timeout", "7");
+        nodeA.ensureTag("NET", "Network", null, 1);
+
+        assertTrue(nodeB.sync());
+        assertEquals(7, nodeB.getAs("timeout", Integer.class));
+        assertEquals("Network", nodeB.getByTag("NET").getTagName());
+        assertEquals(repo.revision, nodeB.snapshot().revision());
+        assertEquals(fullLoads, repo.findAllParamsCalls, "delta only, no full reload");
+        assertFalse(nodeB.sync());
+    }
+
+    @Test
+    void sync_falls_back_to_refresh_without_revision_tracking() {
+        CountingRepo repo = new CountingRepo();
+        SystemParams nodeA = new SystemParams(repo);
+        SystemParams nodeB = new SystemParams(repo);
+        nodeA.set("k", "1", ParamDataType.TEXT, null, null, null);
+        assertEquals("1", nodeB.get("k"));
+        assertEquals(-1, nodeB.snapshot().revision());
+
+        nodeA.update("k", "2");
+        assertTrue(nodeB.sync());
+        assertEquals("2", nodeB.get("k"));
+    }
+
+    @Test
+    void poller_propagates_changes_within_the_interval() throws InterruptedException {
+        TrackingRepo repo = new TrackingRepo();
+        SystemParams nodeA = new SystemParams(repo);
+        SystemParams nodeB = new SystemParams(repo);
+        nodeA.set("flag", "off", ParamDataType.TEXT, null, null, null);
+        assertEquals("off", nodeB.get("flag"));
+
+        try (ParamChangePoller poller = new ParamChangePoller(nodeB, Duration.ofMillis(10))) {
+            nodeA.update("flag", "on");
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            // The value is visible before the poller counts the sync.
+            while ((!"on".equals(nodeB.get("flag")) || poller.syncCount() == 0) && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals("on", nodeB.get("flag"));
+            assertTrue(poller.syncCount() >= 1);
+            assertEquals(0, poller.failureCount());
+        }
+    }
+
+    @Test
+    void primitive_getters_parse_like_getAs_and_fall_back_to_the_default() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("limit", " 5000 ", ParamDataType.NUMBER, null, null, null);
+        sp.set("big", "9000000000", ParamDataType.NUMBER, null, null, null);
+        sp.set("ratio", "0.25", ParamDataType.NUMBER, null, null, null);
+        sp.set("enabled", "1", ParamDataType.BOOLEAN, null, null, null);
+        sp.set("name", "abc", ParamDataType.TEXT, null, null, null);
+
+        assertEquals(5000, sp.getInt("limit", -1));
+        assertEquals(5000L, sp.getLong("limit", -1L));
+        assertEquals(5000.0, sp.getDouble("limit", -1.0));
+        assertEquals(9_000_000_000L, sp.getLong("big", -1L));
+        assertEquals(-1, sp.getInt("big", -1), "overflow is a mismatch");
+        assertEquals(0.25, sp.getDouble("ratio", -1.0));
+        assertEquals(-1, sp.getInt("ratio", -1));
+        assertTrue(sp.getBoolean("enabled", false));
+
+        assertEquals(7, sp.getInt("missing", 7));
+        assertEquals(7, sp.getInt("name", 7));
+        assertFalse(sp.getBoolean("name", false));
+        assertTrue(sp.getBoolean("limit", true));
+    }
+
+    @Test
+    void primitive_getters_follow_updates() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("limit", "10", ParamDataType.NUMBER, "A", 1, null);
+        assertEquals(10, sp.getInt("limit", 0));
+
+        sp.ensureParam("limit", "10", "same value, new description", ParamDataType.NUMBER, "A", 2);
+        assertEquals(10, sp.getInt("limit", 0));
+
+        sp.update("limit", "20");
+        assertEquals(20, sp.getInt("limit", 0));
+        assertEquals(20L, sp.getLong("limit", 0L));
+    }
+
+    @Test
+    void primitive_getters_do_not_allocate_once_parsed() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("limit", "5000", ParamDataType.NUMBER, null, null, null);
+        sp.set("ratio", "0.5", ParamDataType.NUMBER, null, null, null);
+        sp.set("enabled", "true", ParamDataType.BOOLEAN, null, null, null);
+
+        long sum = 0;
+        for (int i = 0; i < 20_000; i++) {
+            sum += sp.getInt("limit", 0) + sp.getLong("limit", 0L) + (long) sp.getDouble("ratio", 0.0)
+                    + (sp.getBoolean("enabled", false) ? 1 : 0) + sp.getInt("missing", 1);
+        }
+
+        long tid = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < 100_000; i++) {
+            sum += sp.getInt("limit", 0) + sp.getLong("limit", 0L) + (long) sp.getDouble("ratio", 0.0)
+                    + (sp.getBoolean("enabled", false) ? 1 : 0) + sp.getInt("missing", 1);
+        }
+        long allocated = threads.getThreadAllocatedBytes(tid) - before;
+
+        assertTrue(sum > 0);
+        assertTrue(allocated < 64 * 1024, "allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void result_lookups_report_found_missing_and_invalid_without_throwing() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("port", "8080", ParamDataType.NUMBER, null, null, null);
+        sp.set("mode", "fast", ParamDataType.TEXT, null, null, null);
+
+        ParamResult<Integer> port = sp.getResult("port", Integer.class);
+        assertTrue(port.isFound());
+        assertEquals(8080, port.get());
+
+        ParamResult<Integer> missing = sp.getResult("nope", Integer.class);
+        assertTrue(missing.isMissing());
+        assertEquals(1, missing.orElse(1));
+        assertThrows(ParamNotFoundException.class, missing::get);
+
+        ParamResult<Integer> invalid = sp.getResult("mode", Integer.class);
+        assertTrue(invalid.isInvalid());
+        assertEquals("TEXT", invalid.error().getExpected());
+        assertEquals(0, invalid.error().getStackTrace().length, "kept failures carry no stack trace");
+        ParamTypeMismatchException thrown = assertThrows(ParamTypeMismatchException.class, invalid::get);
+        assertTrue(thrown.getStackTrace().length > 0);
+
+        assertTrue(sp.getEnumResult("mode", ParamDataType.class).isInvalid());
+        assertTrue(sp.getListResult("mode", Integer.class).isInvalid());
+        assertTrue(sp.getMapResult("mode").isInvalid());
+        assertTrue(sp.getMapListResult("port").isInvalid());
+        assertTrue(sp.getListResult("nope", String.class).isMissing());
+    }
+
+    @Test
+    void failed_conversions_are_remembered_per_entry() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("mode", "fast", ParamDataType.TEXT, null, null, null);
+
+        ParamTypeMismatchException first = sp.getResult("mode", Integer.class).error();
+        assertSame(first, sp.getResult("mode", Integer.class).error());
+        assertEquals(5, sp.getAsOrDefault("mode", Integer.class, 5));
+        assertThrows(ParamTypeMismatchException.class, () -> sp.getAs("mode", Integer.class));
+
+        sp.update("mode", "SLOW");
+        assertTrue(sp.getResult("mode", String.class).isFound());
+        assertNotSame(first, sp.getResult("mode", Integer.class).error());
+    }
+
+    @Test
+    void exception_messages_are_built_on_demand() {
+        ParamTypeMismatchException e = new ParamTypeMismatchException("k", "NUMBER", "x".repeat(500), 10, false);
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals("Invalid value for 'k': expected=NUMBER, actual=xxxxxxxxxx...", e.getMessage());
+        assertSame(e.getMessage(), e.getMessage());
+
+        assertEquals("Parameter not found: k", new ParamNotFoundException("k").getMessage());
+        assertEquals(0, new ParamNotFoundException("k", false).getStackTrace().length);
+    }
+
+    @Test
+    void refs_follow_local_writes() {
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        ParamRef<Duration> timeout = sp.ref("timeout", Duration.class, Duration.ofSeconds(1));
+        ParamRef<Integer> other = sp.ref("other", Integer.class, -1);
+        assertEquals(Duration.ofSeconds(1), timeout.get());
+
+        sp.set("timeout", "30s", ParamDataType.TEXT, null, null, null);
+        assertEquals(Duration.ofSeconds(30), timeout.get());
+
+        sp.update("timeout", "5m");
+        assertEquals(Duration.ofMinutes(5), timeout.get());
+
+        sp.update("timeout", "soon");
+        assertEquals(Duration.ofSeconds(1), timeout.get(), "invalid values read as the default");
+        assertEquals(-1, other.get());
+    }
+
+    record Endpoint(String host) {
+    }
+
+    @Test
+    void io_failures_in_converters_are_retried_and_mismatches_keep_their_cause() {
+        boolean[] down = {true};
+        ConverterRegistry.register(Endpoint.class, raw -> {
+            if (down[0]) throw new IOException("resolver unavailable");
+            if (raw.isBlank()) throw new IllegalArgumentException("blank host");
+            return new Endpoint(raw);
+        });
+        SystemParams sp = new SystemParams(new InMemoryRepo());
+        sp.set("endpoint", "db.internal", ParamDataType.TEXT, null, null, null);
+
+        ParamRef<Endpoint> ref = sp.ref("endpoint", Endpoint.class, new Endpoint("fallback"));
+        assertEquals(new Endpoint("fallback"), ref.get());
+        assertThrows(UncheckedIOException.class, () -> sp.getAs("endpoint", Endpoint.class));
+
+        down[0] = false;
+        assertEquals(new Endpoint("db.internal"), sp.getAs("endpoint", Endpoint.class));
+
+        sp.update("endpoint", " ");
+        assertEquals(new Endpoint("fallback"), ref.get());
+        for (int i = 0; i < 2; i++) {
+            ParamTypeMismatchException e = assertThrows(ParamTypeMismatchException.class,
+                    () -> sp.getAs("endpoint", Endpoint.class));
+            assertInstanceOf(IllegalArgumentException.class, e.getCause(), "memoized failures keep the cause");
+        }
+    }
+
+    @Test
+    void refs_follow_refresh_and_sync() {
+        TrackingRepo repo = new TrackingRepo();
+        SystemParams nodeA = new SystemParams(repo);
+        SystemParams nodeB = new SystemParams(repo);
+        nodeA.set("limit", "10", ParamDataType.NUMBER, null, null, null);
+
+        ParamRef<Integer> limit = nodeB.ref("limit", Integer.class, 0);
+        assertEquals(10, limit.get());
+
+        nodeA.update("limit", "20");
+        assertEquals(10, limit.get());
+        nodeB.sync();
+        assertEquals(20, limit.get());
+
+        nodeA.update("limit", "30");
+        nodeB.refresh();
+        assertEquals(30, limit.get());
+    }
+
     @Test
     void service_interface_polymorphism() {
         SystemParamService service = new SystemParams(new InMemoryRepo());